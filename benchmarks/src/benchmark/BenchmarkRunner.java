@@ -0,0 +1,30 @@
+package benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Lanza los benchmarks siempre con el perfilador de GC (asignación por operación y
+ * recolecciones) y deja los resultados en JSON. Acepta las mismas opciones que la línea
+ * de comandos de JMH, por ejemplo {@code SortBenchmark -p n=100000 -p forma=RANDOM}.
+ * Si se pasan {@code -rf} o {@code -rff}, mandan sobre el formato JSON y
+ * {@code jmh-result.json}.
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions linea = new CommandLineOptions(args);
+        ChainedOptionsBuilder opciones = new OptionsBuilder()
+                .parent(linea)
+                .addProfiler(GCProfiler.class);
+        // Lo que se fija aquí tiene prioridad sobre el padre, así que solo se pone si falta
+        if (!linea.getResultFormat().hasValue()) opciones.resultFormat(ResultFormatType.JSON);
+        if (!linea.getResult().hasValue()) opciones.result("jmh-result.json");
+        new Runner(opciones.build()).run();
+    }
+}
@@ -0,0 +1,76 @@
+package benchmark;
+
+import model.estructuras.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/** Rendimiento de las operaciones básicas de cada {@link Lista}, por operación. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListaBenchmark {
+    @Param
+    public TipoLista lista;
+
+    @Param({"100", "10000", "1000000"})
+    public int n;
+
+    private Lista<Integer> llena;
+    private Lista<Integer> vacia;
+    private int[] indices;
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        llena = lista.crear();
+        for (int i = 0; i < n; i++) llena.add(i);
+        vacia = lista.crear();
+        SplittableRandom random = new SplittableRandom(42L);
+        indices = new int[1024];
+        for (int i = 0; i < indices.length; i++) indices[i] = random.nextInt(n);
+    }
+
+    @Setup(Level.Iteration)
+    public void vaciar() {
+        vacia.clear();
+    }
+
+    private int indice() {
+        siguiente = (siguiente + 1) & (indices.length - 1);
+        return indices[siguiente];
+    }
+
+    @Benchmark
+    public Integer get() {
+        return llena.get(indice());
+    }
+
+    @Benchmark
+    public void set() {
+        int i = indice();
+        llena.set(i, i);
+    }
+
+    @Benchmark
+    public void add() {
+        vacia.add(siguiente++);
+        if (vacia.size() == n) vacia.clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1_000_000)
+    public void recorridoCursor(Blackhole bh) {
+        // Con n < 10^6 se dan varias vueltas para que el costo quede por elemento
+        int pendientes = 1_000_000;
+        while (pendientes > 0) {
+            Cursor<Integer> cursor = llena.cursor();
+            while (cursor.hasNext() && pendientes-- > 0) bh.consume(cursor.next());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package benchmark;
+
+import model.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ordenamientos propios de los modelos Insertion* y Selection*. Los modelos solo generan
+ * datos aleatorios, así que aquí no hay parámetro de forma.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelSortBenchmark {
+    public enum Modelo {
+        INSERTION_SIMPLE, INSERTION_DOBLE, INSERTION_CIRCULAR_SIMPLE, INSERTION_CIRCULAR_DOBLE,
+        SELECTION_SIMPLE, SELECTION_DOBLE, SELECTION_CIRCULAR_SIMPLE, SELECTION_CIRCULAR_DOBLE
+    }
+
+    @Param
+    public Modelo modelo;
+
+    // Los modelos Selection* de listas enlazadas acceden por índice: O(n³)
+    @Param({"100", "1000"})
+    public int n;
+
+    private InsertionSimpleListModel insertionSimple;
+    private InsertionDoubleListModel insertionDoble;
+    private InsertionSimpleCircularModel insertionCircularSimple;
+    private InsertionDoubleCircularModel insertionCircularDoble;
+    private SelectionSimpleListModel selectionSimple;
+    private SelectionDoubleListModel selectionDoble;
+    private SelectionSimpleCircularModel selectionCircularSimple;
+    private SelectionDoubleCircularModel selectionCircularDoble;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        insertionSimple = new InsertionSimpleListModel();
+        insertionDoble = new InsertionDoubleListModel();
+        insertionCircularSimple = new InsertionSimpleCircularModel();
+        insertionCircularDoble = new InsertionDoubleCircularModel();
+        selectionSimple = new SelectionSimpleListModel();
+        selectionDoble = new SelectionDoubleListModel();
+        selectionCircularSimple = new SelectionSimpleCircularModel();
+        selectionCircularDoble = new SelectionDoubleCircularModel();
+    }
+
+    @Setup(Level.Invocation)
+    public void generar() {
+        switch (modelo) {
+            case INSERTION_SIMPLE: insertionSimple.generateRandomPoliticians(n); break;
+            case INSERTION_DOBLE: insertionDoble.generateRandomPoliticians(n); break;
+            case INSERTION_CIRCULAR_SIMPLE: insertionCircularSimple.generateRandomPoliticians(n); break;
+            case INSERTION_CIRCULAR_DOBLE: insertionCircularDoble.generateRandomPoliticians(n); break;
+            case SELECTION_SIMPLE: selectionSimple.generateRandomPoliticians(n); break;
+            case SELECTION_DOBLE: selectionDoble.generateRandomPoliticians(n); break;
+            case SELECTION_CIRCULAR_SIMPLE: selectionCircularSimple.generateRandomPoliticians(n); break;
+            case SELECTION_CIRCULAR_DOBLE: selectionCircularDoble.generateRandomPoliticians(n); break;
+        }
+    }
+
+    @Benchmark
+    public int ordenar() {
+        switch (modelo) {
+            case INSERTION_SIMPLE: return insertionSimple.insertionSort();
+            case INSERTION_DOBLE: return insertionDoble.insertionSort();
+            case INSERTION_CIRCULAR_SIMPLE: return insertionCircularSimple.insertionSort();
+            case INSERTION_CIRCULAR_DOBLE: return insertionCircularDoble.insertionSort();
+            case SELECTION_SIMPLE: return selectionSimple.selectionSort();
+            case SELECTION_DOBLE: return selectionDoble.selectionSort();
+            case SELECTION_CIRCULAR_SIMPLE: return selectionCircularSimple.selectionSort();
+            default: return selectionCircularDoble.selectionSort();
+        }
+    }
+}
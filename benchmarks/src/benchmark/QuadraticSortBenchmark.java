@@ -0,0 +1,59 @@
+package benchmark;
+
+import model.BubbleSort;
+import model.Distribucion;
+import model.Politico;
+import model.QuickSort;
+import model.estructuras.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Los motores que pueden ser O(n²) sobre cada {@link Lista}: bubble sort y el QuickSort con
+ * pivote en el último elemento (cuadrático con entradas ordenadas o repetidas). Por eso solo
+ * llega a 10^4 elementos, pero cubre todas las formas de entrada.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuadraticSortBenchmark {
+    @Param
+    public TipoLista lista;
+
+    @Param({"100", "1000", "10000"})
+    public int n;
+
+    @Param
+    public Distribucion forma;
+
+    private Politico[] datos;
+    private Lista<Politico> destino;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        datos = forma.politicos(n, 42L);
+        destino = lista.crear();
+    }
+
+    @Setup(Level.Invocation)
+    public void rellenar() {
+        destino.clear();
+        destino.addAll(datos);
+    }
+
+    @Benchmark
+    public Lista<Politico> bubble() {
+        BubbleSort.sort(destino, new BubbleSort.Metricas());
+        return destino;
+    }
+
+    @Benchmark
+    public Lista<Politico> quick() {
+        QuickSort.sort(destino, new QuickSort.Metricas());
+        return destino;
+    }
+}
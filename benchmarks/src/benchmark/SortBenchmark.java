@@ -0,0 +1,65 @@
+package benchmark;
+
+import model.*;
+import model.estructuras.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Motores O(n log n) sobre cada {@link Lista}, tamaño y forma de entrada. La lista se
+ * rellena antes de cada invocación, fuera de la medición. {@code QuickSort.sort} no está
+ * aquí: con entradas no aleatorias es cuadrático y se mide en {@link QuadraticSortBenchmark}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class SortBenchmark {
+    public enum Algoritmo {
+        MERGE, MERGE_NODOS, MERGE_BUFFER, MERGE_PARALELO, INTRO, TIM, RADIX
+    }
+
+    @Param
+    public Algoritmo algoritmo;
+
+    @Param
+    public TipoLista lista;
+
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    public int n;
+
+    @Param
+    public Distribucion forma;
+
+    private Politico[] datos;
+    private Lista<Politico> destino;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        datos = forma.politicos(n, 42L);
+        destino = lista.crear();
+    }
+
+    @Setup(Level.Invocation)
+    public void rellenar() {
+        destino.clear();
+        destino.addAll(datos);
+    }
+
+    @Benchmark
+    public Lista<Politico> ordenar() {
+        switch (algoritmo) {
+            case MERGE: MergeSort.sort(destino, new MergeSort.Metricas()); break;
+            case MERGE_NODOS: MergeSort.sortEnNodos(destino, new MergeSort.Metricas()); break;
+            case MERGE_BUFFER: MergeSort.sortConBuffer(destino, new MergeSort.Metricas()); break;
+            case MERGE_PARALELO: new ParallelMergeSort().sort(destino, new MergeSort.Metricas()); break;
+            case INTRO: QuickSort.introSort(destino, new QuickSort.Metricas()); break;
+            case TIM: TimSort.sort(destino, new TimSort.Metricas()); break;
+            case RADIX: RadixSort.sort(destino, new RadixSort.Metricas()); break;
+        }
+        return destino;
+    }
+}
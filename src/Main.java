@@ -4,6 +4,11 @@ import view.MainView;
 
 public class Main {
     public static void main(String[] args) {
+        // Con argumentos se ordena por consola, sin cargar AWT ni Swing
+        if (args.length > 0) {
+            cli.SortCli.main(args);
+            return;
+        }
         SwingUtilities.invokeLater(() -> {
             MainView mainView = new MainView();
             MainController mainController = new MainController(mainView);
@@ -11,4 +16,4 @@ public class Main {
         });
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,395 @@
+package cli;
+
+import model.*;
+import model.estructuras.*;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Punto de entrada sin interfaz gráfica: ordena datos generados con semilla usando los
+ * motores del modelo, repite la medición y escribe mediana y percentiles en CSV o JSON.
+ * Solo depende de {@code model}, así que nunca se cargan clases de AWT ni Swing.
+ *
+ * <pre>
+ * java -cp out cli.SortCli --algoritmo=INTRO,TIM --lista=DOBLE --n=100000 \
+ *      --distribucion=RANDOM --semilla=42 --repeticiones=20 --formato=json
+ * </pre>
+ *
+ * {@code Arrays.sort} y {@code Arrays.parallelSort} sobre los mismos datos se agregan
+ * como referencia salvo con {@code --sin-referencia}. Con {@code --guardar=archivo} los datos
+ * generados quedan en un {@link ArchivoPoliticos} y con {@code --datos=archivo} se vuelven a
+ * usar en otra corrida u otra máquina sin generarlos.
+ */
+public class SortCli {
+    public enum Algoritmo {
+        MERGE, MERGE_NODOS, MERGE_BUFFER, MERGE_PARALELO, QUICK, INTRO, TIM, RADIX, BUBBLE,
+        ARRAYS_SORT, ARRAYS_PARALLEL_SORT,
+        // Los modelos de la interfaz generan sus propios datos con la semilla: ignoran lista y distribución
+        INSERTION_SIMPLE, INSERTION_DOBLE, INSERTION_CIRCULAR_SIMPLE, INSERTION_CIRCULAR_DOBLE,
+        SELECTION_SIMPLE, SELECTION_DOBLE, SELECTION_CIRCULAR_SIMPLE, SELECTION_CIRCULAR_DOBLE;
+
+        boolean esModelo() {
+            return ordinal() >= INSERTION_SIMPLE.ordinal();
+        }
+
+        boolean esReferencia() {
+            return this == ARRAYS_SORT || this == ARRAYS_PARALLEL_SORT;
+        }
+    }
+
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    private static final class Opciones {
+        final List<Algoritmo> algoritmos = new ArrayList<>();
+        TipoLista lista = TipoLista.DOBLE;
+        int n = 100_000;
+        Distribucion distribucion = Distribucion.RANDOM;
+        long semilla = 42L;
+        int calentamiento = 3;
+        int repeticiones = 10;
+        boolean json = false;
+        boolean referencia = true;
+        Path datos;
+        Path guardar;
+        // Datos leídos de --datos o generados una vez para --guardar
+        Politico[] cargados;
+    }
+
+    private static final class Resultado {
+        final Algoritmo algoritmo;
+        final long[] nanos;
+
+        Resultado(Algoritmo algoritmo, long[] nanos) {
+            this.algoritmo = algoritmo;
+            this.nanos = nanos;
+        }
+
+        double mediana() {
+            return percentil(nanos, 50);
+        }
+    }
+
+    public static void main(String[] args) {
+        Opciones o;
+        try {
+            o = leerOpciones(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            uso(System.err);
+            System.exit(2);
+            return;
+        }
+        try {
+            prepararDatos(o);
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        List<Resultado> resultados = new ArrayList<>();
+        for (Algoritmo a : o.algoritmos) {
+            if (a.esModelo()) {
+                System.err.println("Aviso: " + a + " genera sus propios datos con la semilla; se ignoran lista y distribución");
+            }
+            resultados.add(medir(a, o));
+        }
+        if (o.json) escribirJson(System.out, o, resultados); else escribirCsv(System.out, o, resultados);
+    }
+
+    static Opciones leerOpciones(String[] args) {
+        Opciones o = new Opciones();
+        for (String arg : args) {
+            if (arg.equals("--ayuda") || arg.equals("--help")) {
+                uso(System.out);
+                System.exit(0);
+            }
+            if (arg.equals("--sin-referencia")) {
+                o.referencia = false;
+                continue;
+            }
+            int igual = arg.indexOf('=');
+            if (!arg.startsWith("--") || igual < 0) {
+                throw new IllegalArgumentException("Argumento no reconocido: " + arg);
+            }
+            String clave = arg.substring(2, igual);
+            String valor = arg.substring(igual + 1);
+            switch (clave) {
+                case "algoritmo":
+                    for (String nombre : valor.split(",")) o.algoritmos.add(enumerado(Algoritmo.class, nombre));
+                    break;
+                case "lista": o.lista = enumerado(TipoLista.class, valor); break;
+                case "n": o.n = entero(clave, valor, 0); break;
+                case "distribucion": o.distribucion = enumerado(Distribucion.class, valor); break;
+                case "semilla": o.semilla = Long.parseLong(valor); break;
+                case "datos": o.datos = Paths.get(valor); break;
+                case "guardar": o.guardar = Paths.get(valor); break;
+                case "calentamiento": o.calentamiento = entero(clave, valor, 0); break;
+                case "repeticiones": o.repeticiones = entero(clave, valor, 1); break;
+                case "formato":
+                    if (!valor.equalsIgnoreCase("csv") && !valor.equalsIgnoreCase("json")) {
+                        throw new IllegalArgumentException("Formato desconocido: " + valor);
+                    }
+                    o.json = valor.equalsIgnoreCase("json");
+                    break;
+                default:
+                    throw new IllegalArgumentException("Opción desconocida: --" + clave);
+            }
+        }
+        if (o.algoritmos.isEmpty()) o.algoritmos.add(Algoritmo.INTRO);
+        if (o.referencia) {
+            if (!o.algoritmos.contains(Algoritmo.ARRAYS_SORT)) o.algoritmos.add(Algoritmo.ARRAYS_SORT);
+            if (!o.algoritmos.contains(Algoritmo.ARRAYS_PARALLEL_SORT)) o.algoritmos.add(Algoritmo.ARRAYS_PARALLEL_SORT);
+        }
+        return o;
+    }
+
+    private static void prepararDatos(Opciones o) throws IOException {
+        if (o.datos != null) {
+            ArchivoPoliticos archivo = ArchivoPoliticos.cargar(o.datos);
+            o.n = archivo.size();
+            o.cargados = archivo.politicos();
+            System.err.println("Aviso: datos leídos de " + o.datos + "; distribución y semilla no aplican");
+        } else if (o.guardar != null) {
+            o.cargados = o.distribucion.politicos(o.n, o.semilla);
+        }
+        if (o.guardar != null) ArchivoPoliticos.guardar(o.guardar, o.cargados);
+    }
+
+    private static Resultado medir(Algoritmo a, Opciones o) {
+        Politico[] datos = a.esModelo() ? null
+                : o.cargados != null ? o.cargados : o.distribucion.politicos(o.n, o.semilla);
+        long[] nanos = new long[o.repeticiones];
+        for (int r = -o.calentamiento; r < o.repeticiones; r++) {
+            long t = ejecutar(a, o, datos);
+            if (r >= 0) nanos[r] = t;
+        }
+        return new Resultado(a, nanos);
+    }
+
+    // Prepara una copia fresca de los datos, ordena y devuelve solo el tiempo del ordenamiento
+    private static long ejecutar(Algoritmo a, Opciones o, Politico[] datos) {
+        if (a.esModelo()) return ejecutarModelo(a, o.n, o.semilla);
+
+        if (a.esReferencia()) {
+            Politico[] copia = datos.clone();
+            long t0 = System.nanoTime();
+            if (a == Algoritmo.ARRAYS_SORT) Arrays.sort(copia, Comparator.naturalOrder());
+            else Arrays.parallelSort(copia, Comparator.naturalOrder());
+            long t = System.nanoTime() - t0;
+            verificar(a, Arrays.asList(copia));
+            return t;
+        }
+
+        Lista<Politico> lista = o.lista.crear();
+        lista.addAll(datos);
+        long t0 = System.nanoTime();
+        switch (a) {
+            case MERGE: MergeSort.sort(lista, new MergeSort.Metricas()); break;
+            case MERGE_NODOS: MergeSort.sortEnNodos(lista, new MergeSort.Metricas()); break;
+            case MERGE_BUFFER: MergeSort.sortConBuffer(lista, new MergeSort.Metricas()); break;
+            case MERGE_PARALELO: new ParallelMergeSort().sort(lista, new MergeSort.Metricas()); break;
+            case QUICK: QuickSort.sort(lista, new QuickSort.Metricas()); break;
+            case INTRO: QuickSort.introSort(lista, new QuickSort.Metricas()); break;
+            case TIM: TimSort.sort(lista, new TimSort.Metricas()); break;
+            case RADIX: RadixSort.sort(lista, new RadixSort.Metricas()); break;
+            case BUBBLE: BubbleSort.sort(lista, new BubbleSort.Metricas()); break;
+            default: throw new IllegalStateException(a.toString());
+        }
+        long t = System.nanoTime() - t0;
+        verificar(a, lista);
+        return t;
+    }
+
+    private static long ejecutarModelo(Algoritmo a, int n, long semilla) {
+        long t0;
+        switch (a) {
+            case INSERTION_SIMPLE: {
+                InsertionSimpleListModel m = new InsertionSimpleListModel(semilla);
+                m.generateRandomPoliticians(n);
+                t0 = System.nanoTime();
+                m.insertionSort();
+                break;
+            }
+            case INSERTION_DOBLE: {
+                InsertionDoubleListModel m = new InsertionDoubleListModel(semilla);
+                m.generateRandomPoliticians(n);
+                t0 = System.nanoTime();
+                m.insertionSort();
+                break;
+            }
+            case INSERTION_CIRCULAR_SIMPLE: {
+                InsertionSimpleCircularModel m = new InsertionSimpleCircularModel(semilla);
+                m.generateRandomPoliticians(n);
+                t0 = System.nanoTime();
+                m.insertionSort();
+                break;
+            }
+            case INSERTION_CIRCULAR_DOBLE: {
+                InsertionDoubleCircularModel m = new InsertionDoubleCircularModel(semilla);
+                m.generateRandomPoliticians(n);
+                t0 = System.nanoTime();
+                m.insertionSort();
+                break;
+            }
+            case SELECTION_SIMPLE: {
+                SelectionSimpleListModel m = new SelectionSimpleListModel(semilla);
+                m.generateRandomPoliticians(n);
+                t0 = System.nanoTime();
+                m.selectionSort();
+                break;
+            }
+            case SELECTION_DOBLE: {
+                SelectionDoubleListModel m = new SelectionDoubleListModel(semilla);
+                m.generateRandomPoliticians(n);
+                t0 = System.nanoTime();
+                m.selectionSort();
+                break;
+            }
+            case SELECTION_CIRCULAR_SIMPLE: {
+                SelectionSimpleCircularModel m = new SelectionSimpleCircularModel(semilla);
+                m.generateRandomPoliticians(n);
+                t0 = System.nanoTime();
+                m.selectionSort();
+                break;
+            }
+            default: {
+                SelectionDoubleCircularModel m = new SelectionDoubleCircularModel(semilla);
+                m.generateRandomPoliticians(n);
+                t0 = System.nanoTime();
+                m.selectionSort();
+                break;
+            }
+        }
+        return System.nanoTime() - t0;
+    }
+
+    private static void verificar(Algoritmo a, Iterable<Politico> ordenados) {
+        Politico anterior = null;
+        for (Politico p : ordenados) {
+            if (anterior != null && anterior.compareTo(p) > 0) {
+                throw new IllegalStateException(a + " dejó la salida desordenada");
+            }
+            anterior = p;
+        }
+    }
+
+    // Percentil por rango más cercano
+    static double percentil(long[] valores, double p) {
+        long[] orden = valores.clone();
+        Arrays.sort(orden);
+        int rango = (int) Math.ceil(p / 100.0 * orden.length);
+        return orden[Math.max(0, rango - 1)];
+    }
+
+    private static double promedio(long[] valores) {
+        double suma = 0;
+        for (long v : valores) suma += v;
+        return suma / valores.length;
+    }
+
+    private static double millis(double nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static void escribirCsv(PrintStream out, Opciones o, List<Resultado> resultados) {
+        double base = medianaReferencia(resultados);
+        StringBuilder sb = new StringBuilder("algoritmo,lista,n,distribucion,semilla,repeticiones,min_ms,promedio_ms");
+        for (double p : PERCENTILES) sb.append(",p").append((int) p).append("_ms");
+        sb.append(",max_ms,relativo_arrays_sort");
+        out.println(sb);
+        for (Resultado r : resultados) {
+            sb.setLength(0);
+            sb.append(r.algoritmo).append(',').append(r.algoritmo.esReferencia() ? "ARRAY" : o.lista)
+                    .append(',').append(o.n).append(',').append(o.distribucion).append(',').append(o.semilla)
+                    .append(',').append(o.repeticiones)
+                    .append(',').append(formato(millis(percentil(r.nanos, 0))))
+                    .append(',').append(formato(millis(promedio(r.nanos))));
+            for (double p : PERCENTILES) sb.append(',').append(formato(millis(percentil(r.nanos, p))));
+            sb.append(',').append(formato(millis(percentil(r.nanos, 100))))
+                    .append(',').append(Double.isNaN(base) ? "" : formato(r.mediana() / base));
+            out.println(sb);
+        }
+    }
+
+    private static void escribirJson(PrintStream out, Opciones o, List<Resultado> resultados) {
+        double base = medianaReferencia(resultados);
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n  \"lista\": \"").append(o.lista)
+                .append("\",\n  \"n\": ").append(o.n)
+                .append(",\n  \"distribucion\": \"").append(o.distribucion)
+                .append("\",\n  \"semilla\": ").append(o.semilla)
+                .append(",\n  \"calentamiento\": ").append(o.calentamiento)
+                .append(",\n  \"repeticiones\": ").append(o.repeticiones)
+                .append(",\n  \"resultados\": [");
+        for (int i = 0; i < resultados.size(); i++) {
+            Resultado r = resultados.get(i);
+            sb.append(i == 0 ? "\n" : ",\n")
+                    .append("    {\"algoritmo\": \"").append(r.algoritmo)
+                    .append("\", \"min_ms\": ").append(formato(millis(percentil(r.nanos, 0))))
+                    .append(", \"promedio_ms\": ").append(formato(millis(promedio(r.nanos))));
+            for (double p : PERCENTILES) {
+                sb.append(", \"p").append((int) p).append("_ms\": ").append(formato(millis(percentil(r.nanos, p))));
+            }
+            sb.append(", \"max_ms\": ").append(formato(millis(percentil(r.nanos, 100))));
+            if (!Double.isNaN(base)) sb.append(", \"relativo_arrays_sort\": ").append(formato(r.mediana() / base));
+            sb.append(", \"muestras_ns\": ").append(Arrays.toString(r.nanos)).append('}');
+        }
+        sb.append("\n  ]\n}");
+        out.println(sb);
+    }
+
+    private static double medianaReferencia(List<Resultado> resultados) {
+        for (Resultado r : resultados) {
+            if (r.algoritmo == Algoritmo.ARRAYS_SORT) return r.mediana();
+        }
+        return Double.NaN;
+    }
+
+    private static String formato(double v) {
+        return String.format(Locale.ROOT, "%.4f", v);
+    }
+
+    private static <E extends Enum<E>> E enumerado(Class<E> tipo, String nombre) {
+        try {
+            return Enum.valueOf(tipo, nombre.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Valor desconocido para " + tipo.getSimpleName() + ": " + nombre
+                    + " (opciones: " + Arrays.toString(tipo.getEnumConstants()) + ")");
+        }
+    }
+
+    private static int entero(String clave, String valor, int minimo) {
+        int v;
+        try {
+            v = Integer.parseInt(valor.replace("_", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + clave + " espera un entero: " + valor);
+        }
+        if (v < minimo) throw new IllegalArgumentException("--" + clave + " debe ser al menos " + minimo + ": " + v);
+        return v;
+    }
+
+    private static void uso(PrintStream out) {
+        out.println("Uso: java -cp <clases> cli.SortCli [opciones]");
+        out.println("  --algoritmo=A[,B...]   " + Arrays.toString(Algoritmo.values()) + " (por defecto INTRO)");
+        out.println("  --lista=L              " + Arrays.toString(TipoLista.values()) + " (por defecto DOBLE)");
+        out.println("  --n=N                  cantidad de políticos (por defecto 100000)");
+        out.println("  --distribucion=D       " + Arrays.toString(Distribucion.values()) + " (por defecto RANDOM)");
+        out.println("  --semilla=S            semilla de los datos (por defecto 42)");
+        out.println("  --datos=ARCHIVO        usar los políticos guardados en ARCHIVO en vez de generarlos");
+        out.println("  --guardar=ARCHIVO      guardar los políticos usados en ARCHIVO (formato de ArchivoPoliticos)");
+        out.println("  --calentamiento=W      ejecuciones descartadas antes de medir (por defecto 3)");
+        out.println("  --repeticiones=R       ejecuciones medidas (por defecto 10)");
+        out.println("  --formato=csv|json     formato de salida (por defecto csv)");
+        out.println("  --sin-referencia       no agregar Arrays.sort ni Arrays.parallelSort");
+    }
+}
@@ -1,11 +1,12 @@
 package controller;
 
+import model.BubbleSort;
+import model.Distribucion;
+import model.GeneradorDatos;
 import model.estructuras.*;
 import view.VentanaBubbleSort;
 import view.MainView;
 
-import java.util.Random;
-
 public class BubbleSortController {
 
     private final VentanaBubbleSort ventana;
@@ -21,47 +22,28 @@ public class BubbleSortController {
     }
 
     public void ejecutar(int n) {
-        Lista<Integer>[] listas = new Lista[] {
-                new ListaSimple<>(),
-                new ListaDoble<>(),
-                new ListaCircularSimple<>(),
-                new ListaCircularDoble<>()
+        // Enteros sin boxing: datos en arreglos primitivos y enlaces por índice
+        IntLista[] listas = new IntLista[] {
+                new IntListaSimple(),
+                new IntListaDoble(),
+                new IntListaCircularSimple(),
+                new IntListaCircularDoble()
         };
         String[] tipos = {"Simple", "Doble", "Circular Simple", "Circular Doble"};
 
-        Random random = new Random();
-        for (Lista<Integer> lista : listas) {
-            for (int i = 0; i < n; i++) {
-                lista.add(random.nextInt(1000)); // Random integers between 0 and 999
-            }
+        // Los mismos enteros entre 0 y 999 en cada lista, repetibles con la semilla
+        long semilla = System.nanoTime();
+        GeneradorDatos generador = new GeneradorDatos(semilla);
+        for (IntLista lista : listas) {
+            generador.llenar(lista, Distribucion.RANDOM, n, 1000);
         }
+        ventana.mostrarResultados("Semilla: " + semilla);
 
         for (int i = 0; i < listas.length; i++) {
-            Lista<Integer> lista = listas[i];
-            long startTime = System.currentTimeMillis();
-            int[] metrics = bubbleSort(lista);
-            long endTime = System.currentTimeMillis();
-
-            ventana.mostrarResultados(tipos[i] + ": tiempo=" + (endTime - startTime) + "ms  comps=" + metrics[0] + " swaps=" + metrics[1]);
-        }
-    }
-
-    private <T extends Comparable<T>> int[] bubbleSort(Lista<T> list) {
-        int swaps = 0;
-        int comparisons = 0;
-        int size = list.size();
-        for (int i = 0; i < size - 1; i++) {
-            for (int j = 0; j < size - i - 1; j++) {
-                comparisons++;
-                if (list.get(j).compareTo(list.get(j + 1)) > 0) {
-                    T temp = list.get(j);
-                    list.set(j, list.get(j + 1));
-                    list.set(j + 1, temp);
-                    swaps++;
-                }
-            }
+            BubbleSort.Metricas m = new BubbleSort.Metricas();
+            BubbleSort.sort(listas[i], m);
+            ventana.mostrarResultados(tipos[i] + ": tiempo=" + m.tiempoMillis + "ms  comps=" + m.comparaciones + " swaps=" + m.swaps);
         }
-        return new int[] {comparisons, swaps};
     }
 
     // Método para volver al menú principal
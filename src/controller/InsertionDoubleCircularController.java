@@ -3,6 +3,8 @@ package controller;
 import view.InsertionDoubleCircularView;
 import view.InsertionMenu;
 import model.InsertionDoubleCircularModel;
+import model.Politician;
+import model.TrazaOrdenamiento;
 import javax.swing.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -12,6 +14,7 @@ public class InsertionDoubleCircularController {
     private InsertionDoubleCircularModel model;
     private InsertionDoubleCircularView view;
     private InsertionMenu insertionMenu;
+    private SortReplayer replayer;
 
     public InsertionDoubleCircularController(InsertionDoubleCircularModel model, InsertionDoubleCircularView view) {
         this.model = model;
@@ -21,6 +24,8 @@ public class InsertionDoubleCircularController {
         this.view.addBackListener(new BackListener());
         this.view.addGenerateListener(new GenerateListener());
         this.view.addSortListener(new SortListener());
+        this.view.addPauseListener(new PauseListener());
+        this.view.addCancelListener(new CancelListener());
     }
 
     // Method to set the InsertionMenu for back navigation
@@ -32,6 +37,10 @@ public class InsertionDoubleCircularController {
     class BackListener implements ActionListener {
         @Override
         public void actionPerformed(ActionEvent e) {
+            // No dejar un ordenamiento corriendo sobre una ventana cerrada
+            if (replayer != null) {
+                replayer.cancelar();
+            }
             view.dispose();
             // Regresar al menú de inserción si está disponible
             if (insertionMenu != null) {
@@ -116,86 +125,62 @@ public class InsertionDoubleCircularController {
                 view.addStep(model.toString());
                 view.addStep("");
 
-                // Deshabilitar botón durante ordenamiento
-                view.setSortButtonEnabled(false);
                 view.resetProgress();
 
                 // Mostrar estructura circular antes del ordenamiento
                 view.addStep("Verificación de estructura circular:");
                 for (int i = 0; i < Math.min(n, 5); i++) {
-                    InsertionDoubleCircularModel.Politician politician = model.getPolitician(i);
+                    Politician politician = model.getPolitician(i);
                     view.addStep("  Nodo " + i + ": " + politician.getName() + " ($" + politician.getMoneyToSteal() + ")");
                 }
                 view.addStep("  ... (estructura circular completa)");
                 view.addStep("");
 
-                // Ejecutar el algoritmo de ordenamiento y obtener iteraciones
-                long startTime = System.currentTimeMillis();
-                int iterations = model.insertionSort();
-                long endTime = System.currentTimeMillis();
-
-                // Simular pasos del algoritmo para visualización
-                for (int i = 1; i < n; i++) {
-                    view.addStep("--- Iteración " + i + " ---");
-
-                    InsertionDoubleCircularModel.Politician current = model.getPolitician(i);
-                    view.addStep("Procesando: " + current.getName() + " ($" + current.getMoneyToSteal() + ")");
-                    view.addStep("Búsqueda circular bidireccional...");
-
-                    // Actualizar vista
-                    updateTableView();
-                    view.highlightRow(i);
-
-                    // Actualizar progreso
-                    view.updateProgress(i, n);
-
-                    try {
-                        Thread.sleep(800); // Pausa para visualización
-                    } catch (InterruptedException ex) {
-                        ex.printStackTrace();
+                // Se ordena a velocidad real grabando la traza; luego se reproduce al ritmo elegido
+                replayer = new SortReplayer(view) {
+                    private int iterations;
+                    private long nanos;
+
+                    @Override
+                    protected TrazaOrdenamiento grabar() {
+                        TrazaOrdenamiento traza = new TrazaOrdenamiento();
+                        long startTime = System.nanoTime();
+                        iterations = model.insertionSort(traza);
+                        nanos = System.nanoTime() - startTime;
+                        return traza;
                     }
 
-                    view.addStep("Estado después de la iteración " + i + ":");
-                    view.addStep(model.toString());
-                    view.addStep("");
-
-                    // Actualizar vista final de la iteración
-                    updateTableView();
-
-                    try {
-                        Thread.sleep(400);
-                    } catch (InterruptedException ex) {
-                        ex.printStackTrace();
+                    @Override
+                    protected void alTerminar(TrazaOrdenamiento traza) {
+                        view.addStep("");
+                        view.addStep("=== ORDENAMIENTO COMPLETADO ===");
+                        view.addStep("Lista doble circular final ordenada:");
+                        view.addStep(model.toString());
+                        view.addStep("");
+                        view.addStep("Ventajas de la lista doble circular:");
+                        view.addStep("- Navegación bidireccional completa");
+                        view.addStep("- Acceso circular en ambas direcciones");
+                        view.addStep("- No hay extremos (principio/fin)");
+                        view.addStep("- Búsqueda optimizada con dos direcciones");
+                        view.addStep("");
+                        view.addStep("Estadísticas del ordenamiento:");
+                        view.addStep("- Tiempo de ejecución: " + String.format("%.3f", nanos / 1e6) + " ms");
+                        view.addStep("- Nodos reenlazados: " + traza.getReenlaces());
+
+                        // Verificar que la estructura doble circular sigue correcta
+                        if (model.verifyDoubleCircularLinks()) {
+                            view.addStep("✓ Enlaces bidireccionales circulares verificados correctamente");
+                        } else {
+                            view.addStep("✗ Error en los enlaces bidireccionales circulares");
+                        }
+
+                        updateTableView();
+                        view.setProgressComplete();
+                        view.setResultMessage("Ordenamiento doble circular completado con éxito", true);
+                        view.setIterationsMessage("Número de comparaciones: " + iterations);
                     }
-                }
-
-                view.addStep("=== ORDENAMIENTO COMPLETADO ===");
-                view.addStep("Lista doble circular final ordenada:");
-                view.addStep(model.toString());
-                view.addStep("");
-                view.addStep("Ventajas de la lista doble circular:");
-                view.addStep("- Navegación bidireccional completa");
-                view.addStep("- Acceso circular en ambas direcciones");
-                view.addStep("- No hay extremos (principio/fin)");
-                view.addStep("- Búsqueda optimizada con dos direcciones");
-                view.addStep("");
-                view.addStep("Estadísticas del ordenamiento:");
-                view.addStep("- Tiempo de ejecución: " + (endTime - startTime) + " ms");
-
-                // Verificar que la estructura doble circular sigue correcta
-                if (model.verifyDoubleCircularLinks()) {
-                    view.addStep("✓ Enlaces bidireccionales circulares verificados correctamente");
-                } else {
-                    view.addStep("✗ Error en los enlaces bidireccionales circulares");
-                }
-
-                view.setProgressComplete();
-                view.setResultMessage("Ordenamiento doble circular completado con éxito", true);
-                view.setIterationsMessage("Número de comparaciones: " + iterations);
-
-                // Actualizar vista final
-                updateTableView();
-                view.setSortButtonEnabled(true);
+                };
+                replayer.iniciar();
 
             } catch (Exception ex) {
                 view.setResultMessage("Error durante el ordenamiento: " + ex.getMessage(), false);
@@ -205,34 +190,31 @@ public class InsertionDoubleCircularController {
         }
     }
 
-    // Helper method to update table view with double-circular structure visualization
-    private void updateTableView() {
-        int n = model.getSize();
-        Object[][] tableData = new Object[n][5];
-
-        for (int i = 0; i < n; i++) {
-            InsertionDoubleCircularModel.Politician politician = model.getPolitician(i);
-            tableData[i][0] = i + 1; // ID
-
-            // Mostrar el nodo anterior (circular)
-            if (i == 0) {
-                tableData[i][1] = "← " + n; // Primer nodo apunta al último
-            } else {
-                tableData[i][1] = "← " + i; // Apunta al nodo anterior
+    // Listener for pause/resume button
+    class PauseListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (replayer != null) {
+                replayer.alternarPausa();
             }
+        }
+    }
 
-            tableData[i][2] = politician.getName();
-            tableData[i][3] = "$" + politician.getMoneyToSteal();
-
-            // Mostrar el nodo siguiente (circular)
-            if (i == n - 1) {
-                tableData[i][4] = "1 →"; // Último nodo apunta al primero
-            } else {
-                tableData[i][4] = (i + 2) + " →"; // Apunta al siguiente nodo
+    // Listener for cancel button
+    class CancelListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (replayer != null) {
+                replayer.cancelar();
             }
         }
+    }
 
-        view.setTableData(tableData);
+    // Helper method to update table view; only the rows that changed are repainted
+    private void updateTableView() {
+        Politician[] politicians = model.getAllPoliticians();
+        view.getTableModel().update(politicians.length,
+                i -> politicians[i].getName(), i -> politicians[i].getMoneyToSteal());
     }
 
     // Method to start the application
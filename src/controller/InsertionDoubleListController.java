@@ -3,6 +3,8 @@ package controller;
 import view.InsertionDoubleListView;
 import view.InsertionMenu;
 import model.InsertionDoubleListModel;
+import model.Politician;
+import model.TrazaOrdenamiento;
 import javax.swing.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -12,6 +14,7 @@ public class InsertionDoubleListController {
     private InsertionDoubleListModel model;
     private InsertionDoubleListView view;
     private InsertionMenu insertionMenu;
+    private SortReplayer replayer;
 
     public InsertionDoubleListController(InsertionDoubleListModel model, InsertionDoubleListView view) {
         this.model = model;
@@ -21,6 +24,8 @@ public class InsertionDoubleListController {
         this.view.addBackListener(new BackListener());
         this.view.addGenerateListener(new GenerateListener());
         this.view.addSortListener(new SortListener());
+        this.view.addPauseListener(new PauseListener());
+        this.view.addCancelListener(new CancelListener());
     }
 
     // Method to set the InsertionMenu for back navigation
@@ -32,6 +37,10 @@ public class InsertionDoubleListController {
     class BackListener implements ActionListener {
         @Override
         public void actionPerformed(ActionEvent e) {
+            // No dejar un ordenamiento corriendo sobre una ventana cerrada
+            if (replayer != null) {
+                replayer.cancelar();
+            }
             view.dispose();
             // Regresar al menú de inserción si está disponible
             if (insertionMenu != null) {
@@ -115,13 +124,11 @@ public class InsertionDoubleListController {
                 view.addStep(model.toString());
                 view.addStep("");
 
-                // Deshabilitar botón durante ordenamiento
-                view.setSortButtonEnabled(false);
                 view.resetProgress();
 
                 // Mostrar estado antes del ordenamiento
                 for (int i = 0; i < Math.min(n, 10); i++) {
-                    InsertionDoubleListModel.Politician politician = model.getPolitician(i);
+                    Politician politician = model.getPolitician(i);
                     view.addStep("  Nodo " + i + ": " + politician.getName() + " ($" + politician.getMoneyToSteal() + ")");
                 }
                 if (n > 10) {
@@ -129,72 +136,50 @@ public class InsertionDoubleListController {
                 }
                 view.addStep("");
 
-                // Ejecutar el algoritmo de ordenamiento y obtener iteraciones
-                long startTime = System.currentTimeMillis();
-                int iterations = model.insertionSort();
-                long endTime = System.currentTimeMillis();
-
-                // Simular pasos del algoritmo para visualización
-                for (int i = 1; i < n; i++) {
-                    view.addStep("--- Iteración " + i + " ---");
-
-                    InsertionDoubleListModel.Politician current = model.getPolitician(i);
-                    view.addStep("Procesando: " + current.getName() + " ($" + current.getMoneyToSteal() + ")");
-                    view.addStep("Búsqueda bidireccional hacia atrás...");
-
-                    // Actualizar vista
-                    updateTableView();
-                    view.highlightRow(i);
-
-                    // Actualizar progreso
-                    view.updateProgress(i, n);
-
-                    try {
-                        Thread.sleep(800); // Pausa para visualización
-                    } catch (InterruptedException ex) {
-                        ex.printStackTrace();
+                // Se ordena a velocidad real grabando la traza; luego se reproduce al ritmo elegido
+                replayer = new SortReplayer(view) {
+                    private int iterations;
+                    private long nanos;
+
+                    @Override
+                    protected TrazaOrdenamiento grabar() {
+                        TrazaOrdenamiento traza = new TrazaOrdenamiento();
+                        long startTime = System.nanoTime();
+                        iterations = model.insertionSort(traza);
+                        nanos = System.nanoTime() - startTime;
+                        return traza;
                     }
 
-                    view.addStep("Estado después de la iteración " + i + ":");
-                    view.addStep(model.toString());
-                    view.addStep("");
-
-                    // Actualizar vista final de la iteración
-                    updateTableView();
-
-                    try {
-                        Thread.sleep(400);
-                    } catch (InterruptedException ex) {
-                        ex.printStackTrace();
+                    @Override
+                    protected void alTerminar(TrazaOrdenamiento traza) {
+                        view.addStep("");
+                        view.addStep("=== ORDENAMIENTO COMPLETADO ===");
+                        view.addStep("Lista doble final ordenada:");
+                        view.addStep(model.toString());
+                        view.addStep("");
+                        view.addStep("Ventajas de la lista doble:");
+                        view.addStep("- Inserción más eficiente con navegación bidireccional");
+                        view.addStep("- No es necesario mantener puntero al anterior");
+                        view.addStep("- Operaciones de eliminación más rápidas");
+                        view.addStep("");
+                        view.addStep("Estadísticas del ordenamiento:");
+                        view.addStep("- Tiempo de ejecución: " + String.format("%.3f", nanos / 1e6) + " ms");
+                        view.addStep("- Nodos reenlazados: " + traza.getReenlaces());
+
+                        // Verificar que la estructura doble sigue correcta
+                        if (model.verifyDoubleLinks()) {
+                            view.addStep("✓ Enlaces bidireccionales verificados correctamente");
+                        } else {
+                            view.addStep("✗ Error en los enlaces bidireccionales");
+                        }
+
+                        updateTableView();
+                        view.setProgressComplete();
+                        view.setResultMessage("Ordenamiento doble completado con éxito", true);
+                        view.setIterationsMessage("Número de comparaciones: " + iterations);
                     }
-                }
-
-                view.addStep("=== ORDENAMIENTO COMPLETADO ===");
-                view.addStep("Lista doble final ordenada:");
-                view.addStep(model.toString());
-                view.addStep("");
-                view.addStep("Ventajas de la lista doble:");
-                view.addStep("- Inserción más eficiente con navegación bidireccional");
-                view.addStep("- No es necesario mantener puntero al anterior");
-                view.addStep("- Operaciones de eliminación más rápidas");
-                view.addStep("");
-                view.addStep("Estadísticas del ordenamiento:");
-                view.addStep("- Tiempo de ejecución: " + (endTime - startTime) + " ms");
-
-                // Verificar que la estructura doble sigue correcta
-                if (model.verifyDoubleLinks()) {
-                    view.addStep("✓ Enlaces bidireccionales verificados correctamente");
-                } else {
-                    view.addStep("✗ Error en los enlaces bidireccionales");
-                }
-
-                view.setProgressComplete();
-                view.setResultMessage("Ordenamiento doble completado con éxito", true);
-                view.setIterationsMessage("Número de comparaciones: " + iterations);
-
-                // Actualizar vista final
-                updateTableView();
-                view.setSortButtonEnabled(true);
+                };
+                replayer.iniciar();
 
             } catch (Exception ex) {
                 view.setResultMessage("Error durante el ordenamiento: " + ex.getMessage(), false);
@@ -204,34 +189,31 @@ public class InsertionDoubleListController {
         }
     }
 
-    // Helper method to update table view with double-linked structure visualization
-    private void updateTableView() {
-        int n = model.getSize();
-        Object[][] tableData = new Object[n][5];
-
-        for (int i = 0; i < n; i++) {
-            InsertionDoubleListModel.Politician politician = model.getPolitician(i);
-            tableData[i][0] = i + 1; // ID
-
-            // Mostrar el nodo anterior
-            if (i == 0) {
-                tableData[i][1] = "← NULL"; // Primer nodo no tiene anterior
-            } else {
-                tableData[i][1] = "← " + i; // Apunta al nodo anterior
+    // Listener for pause/resume button
+    class PauseListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (replayer != null) {
+                replayer.alternarPausa();
             }
+        }
+    }
 
-            tableData[i][2] = politician.getName();
-            tableData[i][3] = "$" + politician.getMoneyToSteal();
-
-            // Mostrar el nodo siguiente
-            if (i == n - 1) {
-                tableData[i][4] = "NULL →"; // Último nodo no tiene siguiente
-            } else {
-                tableData[i][4] = (i + 2) + " →"; // Apunta al siguiente nodo
+    // Listener for cancel button
+    class CancelListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (replayer != null) {
+                replayer.cancelar();
             }
         }
+    }
 
-        view.setTableData(tableData);
+    // Helper method to update table view; only the rows that changed are repainted
+    private void updateTableView() {
+        Politician[] politicians = model.getAllPoliticians();
+        view.getTableModel().update(politicians.length,
+                i -> politicians[i].getName(), i -> politicians[i].getMoneyToSteal());
     }
 
     // Method to start the application
@@ -3,6 +3,8 @@ package controller;
 import view.InsertionSimpleCircularView;
 import view.InsertionMenu;
 import model.InsertionSimpleCircularModel;
+import model.Politician;
+import model.TrazaOrdenamiento;
 import javax.swing.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -12,6 +14,7 @@ public class InsertionSimpleCircularController {
     private InsertionSimpleCircularModel model;
     private InsertionSimpleCircularView view;
     private InsertionMenu insertionMenu;
+    private SortReplayer replayer;
 
     public InsertionSimpleCircularController(InsertionSimpleCircularModel model, InsertionSimpleCircularView view) {
         this.model = model;
@@ -21,6 +24,8 @@ public class InsertionSimpleCircularController {
         this.view.addBackListener(new BackListener());
         this.view.addGenerateListener(new GenerateListener());
         this.view.addSortListener(new SortListener());
+        this.view.addPauseListener(new PauseListener());
+        this.view.addCancelListener(new CancelListener());
     }
 
     // Method to set the InsertionMenu for back navigation
@@ -32,6 +37,10 @@ public class InsertionSimpleCircularController {
     class BackListener implements ActionListener {
         @Override
         public void actionPerformed(ActionEvent e) {
+            // No dejar un ordenamiento corriendo sobre una ventana cerrada
+            if (replayer != null) {
+                replayer.cancelar();
+            }
             view.dispose();
             // Regresar al menú de inserción si está disponible
             if (insertionMenu != null) {
@@ -102,68 +111,43 @@ public class InsertionSimpleCircularController {
                 view.addStep("Criterio: Ordenando por cantidad de dinero a robar (menor a mayor)");
                 view.addStep("Nota: La lista mantiene su estructura circular\n");
 
-                int n = model.getSize();
-
                 view.addStep("Estado inicial de la lista circular:");
                 view.addStep(model.toString());
                 view.addStep("");
 
-                // Deshabilitar botón durante ordenamiento
-                view.setSortButtonEnabled(false);
                 view.resetProgress();
 
-                // Ejecutar el algoritmo de ordenamiento y obtener iteraciones
-                int iterations = model.insertionSort();
-
-                // Simular pasos del algoritmo para visualización
-                for (int i = 1; i < n; i++) {
-                    view.addStep("--- Iteración " + i + " ---");
-
-                    InsertionSimpleCircularModel.Politician current = model.getPolitician(i);
-                    view.addStep("Procesando: " + current.getName() + " ($" + current.getMoneyToSteal() + ")");
-                    view.addStep("Comparando con nodos anteriores en la lista circular...");
-
-                    // Actualizar vista
-                    updateTableView();
-                    view.highlightRow(i);
-
-                    // Actualizar progreso
-                    view.updateProgress(i, n);
-
-                    try {
-                        Thread.sleep(800); // Pausa para visualización
-                    } catch (InterruptedException ex) {
-                        ex.printStackTrace();
+                // Se ordena a velocidad real grabando la traza; luego se reproduce al ritmo elegido
+                replayer = new SortReplayer(view) {
+                    private int iterations;
+                    private long nanos;
+
+                    @Override
+                    protected TrazaOrdenamiento grabar() {
+                        TrazaOrdenamiento traza = new TrazaOrdenamiento();
+                        long startTime = System.nanoTime();
+                        iterations = model.insertionSort(traza);
+                        nanos = System.nanoTime() - startTime;
+                        return traza;
                     }
 
-                    view.addStep("Estado después de la iteración " + i + ":");
-                    view.addStep(model.toString());
-                    view.addStep("");
-
-                    // Actualizar vista final de la iteración
-                    updateTableView();
-
-                    try {
-                        Thread.sleep(400);
-                    } catch (InterruptedException ex) {
-                        ex.printStackTrace();
+                    @Override
+                    protected void alTerminar(TrazaOrdenamiento traza) {
+                        view.addStep("");
+                        view.addStep("=== ORDENAMIENTO COMPLETADO ===");
+                        view.addStep("Lista circular final ordenada:");
+                        view.addStep(model.toString());
+                        view.addStep("\nLa estructura circular se mantiene intacta:");
+                        view.addStep("- Orden: de menor a mayor cantidad de dinero");
+                        view.addStep("- El último elemento aún apunta al primero");
+
+                        updateTableView();
+                        view.setProgressComplete();
+                        view.setResultMessage("Ordenamiento circular completado con éxito", true);
+                        view.setIterationsMessage("Número de comparaciones: " + iterations);
                     }
-                }
-
-                view.addStep("=== ORDENAMIENTO COMPLETADO ===");
-                view.addStep("Lista circular final ordenada:");
-                view.addStep(model.toString());
-                view.addStep("\nLa estructura circular se mantiene intacta:");
-                view.addStep("- Orden: de menor a mayor cantidad de dinero");
-                view.addStep("- El último elemento aún apunta al primero");
-
-                view.setProgressComplete();
-                view.setResultMessage("Ordenamiento circular completado con éxito", true);
-                view.setIterationsMessage("Número de comparaciones: " + iterations);
-
-                // Actualizar vista final
-                updateTableView();
-                view.setSortButtonEnabled(true);
+                };
+                replayer.iniciar();
 
             } catch (Exception ex) {
                 view.setResultMessage("Error durante el ordenamiento: " + ex.getMessage(), false);
@@ -173,26 +157,31 @@ public class InsertionSimpleCircularController {
         }
     }
 
-    // Helper method to update table view with circular structure visualization
-    private void updateTableView() {
-        int n = model.getSize();
-        Object[][] tableData = new Object[n][4];
-
-        for (int i = 0; i < n; i++) {
-            InsertionSimpleCircularModel.Politician politician = model.getPolitician(i);
-            tableData[i][0] = i + 1; // ID
-            tableData[i][1] = politician.getName();
-            tableData[i][2] = "$" + politician.getMoneyToSteal();
-
-            // Mostrar el siguiente nodo (circular)
-            if (i == n - 1) {
-                tableData[i][3] = "→ HEAD"; // Último nodo apunta al head
-            } else {
-                tableData[i][3] = "→ " + (i + 2); // Apunta al siguiente nodo
+    // Listener for pause/resume button
+    class PauseListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (replayer != null) {
+                replayer.alternarPausa();
             }
         }
+    }
 
-        view.setTableData(tableData);
+    // Listener for cancel button
+    class CancelListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (replayer != null) {
+                replayer.cancelar();
+            }
+        }
+    }
+
+    // Helper method to update table view; only the rows that changed are repainted
+    private void updateTableView() {
+        Politician[] politicians = model.getAllPoliticians();
+        view.getTableModel().update(politicians.length,
+                i -> politicians[i].getName(), i -> politicians[i].getMoneyToSteal());
     }
 
     // Method to start the application
@@ -3,15 +3,19 @@ package controller;
 import view.InsertionSimpleListView;
 import view.InsertionMenu;
 import model.InsertionSimpleListModel;
+import model.Politician;
+import model.TrazaOrdenamiento;
 import javax.swing.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.List;
 
 public class InsertionSimpleListController {
 
     private InsertionSimpleListModel model;
     private InsertionSimpleListView view;
     private InsertionMenu insertionMenu;
+    private SortReplayer replayer;
 
     public InsertionSimpleListController(InsertionSimpleListModel model, InsertionSimpleListView view) {
         this.model = model;
@@ -21,6 +25,8 @@ public class InsertionSimpleListController {
         this.view.addBackListener(new BackListener());
         this.view.addGenerateListener(new GenerateListener());
         this.view.addSortListener(new SortListener());
+        this.view.addPauseListener(new PauseListener());
+        this.view.addCancelListener(new CancelListener());
     }
 
     // Method to set the InsertionMenu for back navigation
@@ -32,6 +38,10 @@ public class InsertionSimpleListController {
     class BackListener implements ActionListener {
         @Override
         public void actionPerformed(ActionEvent e) {
+            // No dejar un ordenamiento corriendo sobre una ventana cerrada
+            if (replayer != null) {
+                replayer.cancelar();
+            }
             view.dispose();
             // Regresar al menú de inserción si está disponible
             if (insertionMenu != null) {
@@ -68,14 +78,7 @@ public class InsertionSimpleListController {
                 model.generateRandomPoliticians(numElements);
 
                 // Mostrar datos en la tabla
-                Object[][] tableData = new Object[numElements][3];
-                for (int i = 0; i < numElements; i++) {
-                    tableData[i][0] = i + 1; // ID
-                    tableData[i][1] = model.getPolitician(i).getName();
-                    tableData[i][2] = "$" + model.getPolitician(i).getMoneyToSteal();
-                }
-
-                view.setTableData(tableData);
+                updateTableView();
                 view.setSortButtonEnabled(true);
                 view.setResultMessage("Políticos generados con éxito", true);
                 view.clearSteps();
@@ -100,85 +103,38 @@ public class InsertionSimpleListController {
                 view.addStep("Algoritmo: Insertion Sort para Lista Simple");
                 view.addStep("Criterio: Ordenando por cantidad de dinero a robar (menor a mayor)\n");
 
-                int iterations = 0;
-                int n = model.getSize();
-
                 view.addStep("Array inicial:");
                 view.addStep(model.toString());
                 view.addStep("");
 
-                // Deshabilitar botón durante ordenamiento
-                view.setSortButtonEnabled(false);
                 view.resetProgress();
 
-                // Implementar Insertion Sort
-                for (int i = 1; i < n; i++) {
-                    InsertionSimpleListModel.Politician key = model.getPolitician(i);
-                    int j = i - 1;
-
-                    view.addStep("--- Iteración " + (i) + " ---");
-                    view.addStep("Elemento a insertar: " + key.getName() + " ($" + key.getMoneyToSteal() + ")");
-                    view.addStep("Posición actual: " + i);
-
-                    // Highlight current element
-                    view.highlightRow(i);
-
-                    // Update progress
-                    view.updateProgress(i, n);
-
-                    // Move elements that are greater than key
-                    while (j >= 0 && model.getPolitician(j).getMoneyToSteal() > key.getMoneyToSteal()) {
-                        iterations++;
-                        view.addStep("Comparando con: " + model.getPolitician(j).getName() +
-                                " ($" + model.getPolitician(j).getMoneyToSteal() + ")");
-                        view.addStep("$" + model.getPolitician(j).getMoneyToSteal() + " > $" +
-                                key.getMoneyToSteal() + " → Mover a la derecha");
+                // Se ordena a velocidad real grabando la traza; luego se reproduce al ritmo elegido
+                replayer = new SortReplayer(view) {
+                    private int iterations;
 
-                        model.setPolitician(j + 1, model.getPolitician(j));
-                        j = j - 1;
-
-                        // Actualizar vista
-                        updateTableView();
-
-                        try {
-                            Thread.sleep(500); // Pausa para visualización
-                        } catch (InterruptedException ex) {
-                            ex.printStackTrace();
-                        }
-                    }
-
-                    if (j + 1 != i) {
-                        model.setPolitician(j + 1, key);
-                        view.addStep("Insertando en posición: " + (j + 1));
-                    } else {
-                        view.addStep("El elemento ya está en su posición correcta");
+                    @Override
+                    protected TrazaOrdenamiento grabar() {
+                        TrazaOrdenamiento traza = new TrazaOrdenamiento();
+                        iterations = model.insertionSort(traza);
+                        return traza;
                     }
 
-                    view.addStep("Estado después de la iteración:");
-                    view.addStep(model.toString());
-                    view.addStep("");
-
-                    // Actualizar vista final de la iteración
-                    updateTableView();
+                    @Override
+                    protected void alTerminar(TrazaOrdenamiento traza) {
+                        view.addStep("");
+                        view.addStep("=== ORDENAMIENTO COMPLETADO ===");
+                        view.addStep("Array final ordenado:");
+                        view.addStep(model.toString());
 
-                    try {
-                        Thread.sleep(300);
-                    } catch (InterruptedException ex) {
-                        ex.printStackTrace();
+                        updateTableView();
+                        view.setProgressComplete();
+                        view.setResultMessage("Ordenamiento completado con éxito", true);
+                        view.setIterationsMessage("Número de comparaciones: " + iterations
+                                + "  Elementos movidos: " + model.getLastMoves());
                     }
-                }
-
-                view.addStep("=== ORDENAMIENTO COMPLETADO ===");
-                view.addStep("Array final ordenado:");
-                view.addStep(model.toString());
-
-                view.setProgressComplete();
-                view.setResultMessage("Ordenamiento completado con éxito", true);
-                view.setIterationsMessage("Número de comparaciones: " + iterations);
-
-                // Highlight all data
-                updateTableView();
-                view.setSortButtonEnabled(true);
+                };
+                replayer.iniciar();
 
             } catch (Exception ex) {
                 view.setResultMessage("Error durante el ordenamiento: " + ex.getMessage(), false);
@@ -188,18 +144,31 @@ public class InsertionSimpleListController {
         }
     }
 
-    // Helper method to update table view
-    private void updateTableView() {
-        int n = model.getSize();
-        Object[][] tableData = new Object[n][3];
+    // Listener for pause/resume button
+    class PauseListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (replayer != null) {
+                replayer.alternarPausa();
+            }
+        }
+    }
 
-        for (int i = 0; i < n; i++) {
-            tableData[i][0] = i + 1; // ID
-            tableData[i][1] = model.getPolitician(i).getName();
-            tableData[i][2] = "$" + model.getPolitician(i).getMoneyToSteal();
+    // Listener for cancel button
+    class CancelListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (replayer != null) {
+                replayer.cancelar();
+            }
         }
+    }
 
-        view.setTableData(tableData);
+    // Helper method to update table view; only the rows that changed are repainted
+    private void updateTableView() {
+        List<Politician> politicians = model.getAllPoliticians();
+        view.getTableModel().update(politicians.size(),
+                i -> politicians.get(i).getName(), i -> politicians.get(i).getMoneyToSteal());
     }
 
     // Method to start the application
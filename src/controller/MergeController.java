@@ -28,14 +28,17 @@ public class MergeController {
         };
         String[] tipos = {"Simple", "Doble", "Circular Simple", "Circular Doble"};
 
+        // Con la semilla se repite la misma corrida
+        long semilla = System.nanoTime();
+        GeneradorDatos generador = new GeneradorDatos(semilla);
+        vista.mostrarResultados("Semilla: " + semilla);
+
         for (int i = 0; i < listas.length; i++) {
             // Llenar
-            for (int j = 0; j < n; j++) {
-                listas[i].add(Politico.aleatorio());
-            }
+            generador.llenar(listas[i], Distribucion.RANDOM, n);
             // Medir y ordenar
             MergeSort.Metricas m = new MergeSort.Metricas();
-            MergeSort.sort(listas[i], m);
+            MergeSort.sortEnNodos(listas[i], m);
             vista.mostrarResultados(
                     tipos[i] + ": tiempo=" + m.tiempoMillis + "ms  comps=" + m.comparaciones +
                             " swaps=" + m.swaps
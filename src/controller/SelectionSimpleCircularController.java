@@ -3,6 +3,8 @@ package controller;
 import view.SelectionSimpleCircularView;
 import view.SelectionMenu;
 import model.SelectionSimpleCircularModel;
+import model.Politician;
+import model.TrazaOrdenamiento;
 import javax.swing.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -12,6 +14,7 @@ public class SelectionSimpleCircularController {
     private SelectionSimpleCircularModel model;
     private SelectionSimpleCircularView view;
     private SelectionMenu selectionMenu;
+    private SortReplayer replayer;
 
     public SelectionSimpleCircularController(SelectionSimpleCircularModel model, SelectionSimpleCircularView view) {
         this.model = model;
@@ -21,6 +24,8 @@ public class SelectionSimpleCircularController {
         this.view.addBackListener(new BackListener());
         this.view.addGenerateListener(new GenerateListener());
         this.view.addSortListener(new SortListener());
+        this.view.addPauseListener(new PauseListener());
+        this.view.addCancelListener(new CancelListener());
     }
 
     // Method to set the SelectionMenu for back navigation
@@ -32,6 +37,10 @@ public class SelectionSimpleCircularController {
     class BackListener implements ActionListener {
         @Override
         public void actionPerformed(ActionEvent e) {
+            // No dejar un ordenamiento corriendo sobre una ventana cerrada
+            if (replayer != null) {
+                replayer.cancelar();
+            }
             view.dispose();
             // Regresar al menú de selección si está disponible
             if (selectionMenu != null) {
@@ -102,32 +111,40 @@ public class SelectionSimpleCircularController {
                 view.addStep("Criterio: Ordenando por cantidad de dinero a robar (menor a mayor)");
                 view.addStep("Nota: La lista mantiene su estructura circular\n");
 
-                int n = model.getSize();
-
                 view.addStep("Estado inicial de la lista circular:");
                 view.addStep(model.toString());
                 view.addStep("");
 
-                // Deshabilitar botón durante ordenamiento
-                view.setSortButtonEnabled(false);
                 view.resetProgress();
 
-                // Ejecutar el algoritmo de ordenamiento paso a paso
-                executeSortingSteps(n);
-
-                view.addStep("=== ORDENAMIENTO COMPLETADO ===");
-                view.addStep("Lista circular final ordenada:");
-                view.addStep(model.toString());
-                view.addStep("\nLa estructura circular se mantiene intacta:");
-                view.addStep("- Orden: de menor a mayor cantidad de dinero");
-                view.addStep("- El último elemento aún apunta al primero");
+                // Se ordena a velocidad real grabando la traza; luego se reproduce al ritmo elegido
+                replayer = new SortReplayer(view) {
+                    private int comparisons;
 
-                view.setProgressComplete();
-                view.setResultMessage("Ordenamiento circular completado con éxito", true);
+                    @Override
+                    protected TrazaOrdenamiento grabar() {
+                        TrazaOrdenamiento traza = new TrazaOrdenamiento();
+                        comparisons = model.selectionSort(traza);
+                        return traza;
+                    }
 
-                // Actualizar vista final
-                updateTableView();
-                view.setSortButtonEnabled(true);
+                    @Override
+                    protected void alTerminar(TrazaOrdenamiento traza) {
+                        view.addStep("");
+                        view.addStep("=== ORDENAMIENTO COMPLETADO ===");
+                        view.addStep("Lista circular final ordenada:");
+                        view.addStep(model.toString());
+                        view.addStep("\nLa estructura circular se mantiene intacta:");
+                        view.addStep("- Orden: de menor a mayor cantidad de dinero");
+                        view.addStep("- El último elemento aún apunta al primero");
+
+                        updateTableView();
+                        view.setProgressComplete();
+                        view.setResultMessage("Ordenamiento circular completado con éxito", true);
+                        view.setIterationsMessage("Número de comparaciones: " + comparisons);
+                    }
+                };
+                replayer.iniciar();
 
             } catch (Exception ex) {
                 view.setResultMessage("Error durante el ordenamiento: " + ex.getMessage(), false);
@@ -135,121 +152,33 @@ public class SelectionSimpleCircularController {
                 ex.printStackTrace();
             }
         }
+    }
 
-        // Método para ejecutar el ordenamiento paso a paso con visualización
-        private void executeSortingSteps(int n) {
-            int comparisons = 0;
-
-            for (int i = 0; i < n - 1; i++) {
-                view.addStep("--- Iteración " + (i + 1) + " ---");
-                view.addStep("Posición actual: " + i);
-                view.addStep("Buscando el mínimo valor desde la posición " + i + " hasta el final...");
-
-                int minIndex = i;
-
-                // Actualizar progreso
-                view.updateProgress(i, n - 1);
-
-                // Resaltar la posición actual
-                view.highlightRow(i);
-
-                try {
-                    Thread.sleep(500); // Pausa para visualización
-                } catch (InterruptedException ex) {
-                    ex.printStackTrace();
-                }
-
-                // Buscar el mínimo en la parte no ordenada de la lista circular
-                for (int j = i + 1; j < n; j++) {
-                    comparisons++;
-
-                    SelectionSimpleCircularModel.Politician currentPolitician = model.getPolitician(j);
-                    SelectionSimpleCircularModel.Politician minPolitician = model.getPolitician(minIndex);
-
-                    view.addStep("Comparando: " + currentPolitician.getName() +
-                            " ($" + currentPolitician.getMoneyToSteal() + ")" +
-                            " con " + minPolitician.getName() +
-                            " ($" + minPolitician.getMoneyToSteal() + ")");
-
-                    // Resaltar los elementos siendo comparados
-                    view.highlightRows(j, minIndex);
-
-                    try {
-                        Thread.sleep(300); // Pausa para visualización
-                    } catch (InterruptedException ex) {
-                        ex.printStackTrace();
-                    }
-
-                    if (currentPolitician.getMoneyToSteal() < minPolitician.getMoneyToSteal()) {
-                        minIndex = j;
-                        view.addStep("Nuevo mínimo encontrado: " + currentPolitician.getName() +
-                                " ($" + currentPolitician.getMoneyToSteal() + ")");
-                    }
-                }
-
-                // Realizar el intercambio si es necesario
-                if (minIndex != i) {
-                    view.addStep("\nIntercambiando en la lista circular:");
-                    view.addStep("- Posición " + i + ": " + model.getPolitician(i).getName() +
-                            " ($" + model.getPolitician(i).getMoneyToSteal() + ")");
-                    view.addStep("- Posición " + minIndex + ": " + model.getPolitician(minIndex).getName() +
-                            " ($" + model.getPolitician(minIndex).getMoneyToSteal() + ")");
-
-                    // Resaltar los elementos a intercambiar
-                    view.highlightRows(i, minIndex);
-
-                    try {
-                        Thread.sleep(500); // Pausa para visualización
-                    } catch (InterruptedException ex) {
-                        ex.printStackTrace();
-                    }
-
-                    model.swap(i, minIndex);
-
-                    view.addStep("Intercambio realizado (estructura circular mantenida)");
-                } else {
-                    view.addStep("No se requiere intercambio");
-                }
-
-                view.addStep("\nEstado después de la iteración " + (i + 1) + ":");
-                view.addStep(model.toString());
-                view.addStep("Elementos ordenados hasta la posición " + i + "\n");
-
-                // Actualizar vista
-                updateTableView();
-
-                try {
-                    Thread.sleep(500);
-                } catch (InterruptedException ex) {
-                    ex.printStackTrace();
-                }
+    // Listener for pause/resume button
+    class PauseListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (replayer != null) {
+                replayer.alternarPausa();
             }
-
-            // Mostrar el total de comparaciones
-            view.setIterationsMessage("Número de comparaciones: " + comparisons);
         }
     }
 
-    // Helper method to update table view with circular structure visualization
-    private void updateTableView() {
-        int n = model.getSize();
-        Object[][] tableData = new Object[n][4];
-
-        for (int i = 0; i < n; i++) {
-            SelectionSimpleCircularModel.Politician politician = model.getPolitician(i);
-            tableData[i][0] = i + 1; // ID
-            tableData[i][1] = politician.getName();
-            tableData[i][2] = "$" + politician.getMoneyToSteal();
-
-            // Mostrar el siguiente nodo (circular)
-            if (i == n - 1) {
-                tableData[i][3] = "→ HEAD"; // Último nodo apunta al head
-            } else {
-                tableData[i][3] = "→ " + (i + 2); // Apunta al siguiente nodo
+    // Listener for cancel button
+    class CancelListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (replayer != null) {
+                replayer.cancelar();
             }
         }
+    }
 
-        view.setTableData(tableData);
+    // Helper method to update table view; only the rows that changed are repainted
+    private void updateTableView() {
+        Politician[] politicians = model.getAllPoliticians();
+        view.getTableModel().update(politicians.length,
+                i -> politicians[i].getName(), i -> politicians[i].getMoneyToSteal());
     }
 
     // Method to start the application
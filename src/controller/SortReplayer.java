@@ -0,0 +1,193 @@
+package controller;
+
+import model.TrazaOrdenamiento;
+import view.PoliticianTableModel;
+import view.SortingView;
+import javax.swing.*;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Graba un ordenamiento a velocidad real fuera del EDT y después lo reproduce sobre la
+ * vista con un {@link javax.swing.Timer}. La reproducción no toca el modelo: parte de las
+ * filas que ya muestra la tabla y las intercambia o corre según cada evento, así que la
+ * tabla solo repinta las filas que se movieron.
+ * <p>
+ * El Timer late hasta 60 veces por segundo y en cada latido aplica los pasos que tocan
+ * según la velocidad de la vista, resaltando y actualizando el progreso una sola vez.
+ */
+public abstract class SortReplayer {
+
+    private static final int LATIDO_MS = 1000 / 60;
+
+    private final SortingView vista;
+    private final PoliticianTableModel tabla;
+    private final Timer timer;
+
+    private TrazaOrdenamiento traza;
+    private int siguiente = 0;
+    private double pendientes = 0;
+    private long ultimoLatido;
+    private boolean pausado;
+    private boolean terminado;
+
+    protected SortReplayer(SortingView view) {
+        this.vista = view;
+        this.tabla = view.getTableModel();
+        this.timer = new Timer(LATIDO_MS, e -> latido());
+    }
+
+    /** Ordena el modelo grabando la traza; corre en segundo plano y no toca la vista. */
+    protected abstract TrazaOrdenamiento grabar();
+
+    /** En el EDT, al terminar la reproducción o al cancelarla; el modelo ya está ordenado. */
+    protected abstract void alTerminar(TrazaOrdenamiento traza);
+
+    public void iniciar() {
+        vista.setSortButtonEnabled(false);
+        vista.setGenerateButtonEnabled(false);
+        vista.setSortRunning(true);
+
+        new SwingWorker<TrazaOrdenamiento, Void>() {
+            @Override
+            protected TrazaOrdenamiento doInBackground() {
+                return grabar();
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    traza = get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (ExecutionException e) {
+                    Throwable causa = e.getCause();
+                    vista.setResultMessage("Error durante el ordenamiento: " + causa.getMessage(), false);
+                    causa.printStackTrace();
+                    restaurarControles();
+                    return;
+                }
+                if (terminado) {
+                    // Se canceló mientras se grababa
+                    cerrar();
+                    return;
+                }
+                // Si se pausó mientras se grababa, alternarPausa arranca el Timer al reanudar
+                if (pausado) return;
+                ultimoLatido = System.nanoTime();
+                timer.start();
+            }
+        }.execute();
+    }
+
+    public void alternarPausa() {
+        if (terminado) return;
+        pausado = !pausado;
+        vista.setPaused(pausado);
+        if (pausado) {
+            timer.stop();
+        } else if (traza != null) {
+            ultimoLatido = System.nanoTime();
+            timer.start();
+        }
+    }
+
+    // Corta la reproducción; el modelo ya quedó ordenado al grabar
+    public void cancelar() {
+        if (terminado) return;
+        terminado = true;
+        timer.stop();
+        if (traza != null) {
+            vista.addStep("=== REPRODUCCIÓN CANCELADA ===");
+            cerrar();
+        }
+    }
+
+    private void latido() {
+        long ahora = System.nanoTime();
+        pendientes += vista.getReplaySpeed() * (ahora - ultimoLatido) / 1e9;
+        ultimoLatido = ahora;
+        if (pendientes < 1) return;
+
+        int resaltado1 = -1, resaltado2 = -1;
+        int iteracion = -1, total = 0;
+
+        for (; pendientes >= 1 && siguiente < traza.size(); pendientes--, siguiente++) {
+            int tipo = traza.tipo(siguiente), a = traza.a(siguiente), b = traza.b(siguiente);
+            if (tipo == TrazaOrdenamiento.PROGRESO) {
+                vista.addStepEntry(new Paso(tipo, a, b, null, 0, null, 0));
+                iteracion = a;
+                total = b;
+                continue;
+            }
+
+            // Se guardan los valores de este momento; el texto se arma solo si se llega a ver
+            vista.addStepEntry(new Paso(tipo, a, b, tabla.getName(a), tabla.getMoney(a),
+                    tabla.getName(b), tabla.getMoney(b)));
+            switch (tipo) {
+                case TrazaOrdenamiento.INTERCAMBIO:
+                    tabla.swapRows(a, b);
+                    break;
+                case TrazaOrdenamiento.REENLACE:
+                    tabla.moveRow(a, b);
+                    break;
+                default:
+                    break;
+            }
+            resaltado1 = tipo == TrazaOrdenamiento.REENLACE ? b : a;
+            resaltado2 = b;
+        }
+
+        if (resaltado1 >= 0) vista.highlightRows(resaltado1, resaltado2);
+        if (iteracion >= 0) vista.updateProgress(iteracion, total);
+
+        if (siguiente == traza.size()) {
+            terminado = true;
+            timer.stop();
+            cerrar();
+        }
+    }
+
+    /** Un evento de la traza tal como se vio al reproducirlo. */
+    private static final class Paso {
+        private final int tipo, a, b;
+        private final String nombreA, nombreB;
+        private final int dineroA, dineroB;
+
+        Paso(int tipo, int a, int b, String nombreA, int dineroA, String nombreB, int dineroB) {
+            this.tipo = tipo;
+            this.a = a;
+            this.b = b;
+            this.nombreA = nombreA;
+            this.dineroA = dineroA;
+            this.nombreB = nombreB;
+            this.dineroB = dineroB;
+        }
+
+        @Override
+        public String toString() {
+            switch (tipo) {
+                case TrazaOrdenamiento.COMPARACION:
+                    return "Comparando: " + nombreA + " ($" + dineroA + ") con " + nombreB + " ($" + dineroB + ")";
+                case TrazaOrdenamiento.INTERCAMBIO:
+                    return "Intercambiando posiciones " + a + " y " + b + ": " + nombreA + " ($" + dineroA + ") ⟷ "
+                            + nombreB + " ($" + dineroB + ")";
+                case TrazaOrdenamiento.REENLACE:
+                    return "Moviendo " + nombreA + " ($" + dineroA + ") de la posición " + a + " a la " + b;
+                default:
+                    return "--- Iteración " + a + " de " + b + " completada ---";
+            }
+        }
+    }
+
+    private void cerrar() {
+        alTerminar(traza);
+        restaurarControles();
+    }
+
+    private void restaurarControles() {
+        vista.setSortRunning(false);
+        vista.setGenerateButtonEnabled(true);
+        vista.setSortButtonEnabled(true);
+    }
+}
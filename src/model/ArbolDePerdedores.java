@@ -0,0 +1,74 @@
+package model;
+
+/**
+ * Árbol de perdedores (torneo) para mezclar k fuentes ordenadas. Cada nodo interno guarda la
+ * fuente que perdió allí y la raíz al ganador, así que después de consumir el ganador basta
+ * rejugar su camino hasta la raíz: ⌈log2 k⌉ comparaciones por elemento, sin mirar hermanos.
+ * <p>
+ * Las hojas son implícitas (la fuente f está en la posición k + f), lo que sirve para
+ * cualquier k, no solo potencias de 2. Los empates los gana la fuente de menor índice, de modo
+ * que la mezcla es estable si las fuentes vienen en el orden original. Una fuente agotada
+ * pierde contra todas.
+ */
+final class ArbolDePerdedores {
+    interface Fuentes {
+        boolean agotada(int fuente);
+
+        /** Compara el elemento actual de dos fuentes no agotadas. */
+        int comparar(int a, int b);
+    }
+
+    private final int k;
+    private final int[] perdedores;
+    private final Fuentes fuentes;
+    private int ganador;
+
+    /** Las fuentes ya tienen que estar posicionadas en su primer elemento. */
+    ArbolDePerdedores(int k, Fuentes fuentes) {
+        if (k < 1) {
+            throw new IllegalArgumentException("Se necesita al menos una fuente: " + k);
+        }
+        this.k = k;
+        this.fuentes = fuentes;
+        this.perdedores = new int[k];
+        // Torneo inicial de abajo hacia arriba; ganadores[j] es el ganador del subárbol j
+        int[] ganadores = new int[2 * k];
+        for (int f = 0; f < k; f++) ganadores[k + f] = f;
+        for (int j = k - 1; j >= 1; j--) {
+            int a = ganadores[2 * j], b = ganadores[2 * j + 1];
+            if (gana(a, b)) {
+                ganadores[j] = a;
+                perdedores[j] = b;
+            } else {
+                ganadores[j] = b;
+                perdedores[j] = a;
+            }
+        }
+        ganador = k == 1 ? 0 : ganadores[1];
+    }
+
+    /** Fuente con el menor elemento actual; si está agotada, lo están todas. */
+    int ganador() {
+        return ganador;
+    }
+
+    /** Rejuega el camino del ganador después de que su fuente avanzó. */
+    void reajustar() {
+        int g = ganador;
+        for (int j = (k + g) >>> 1; j >= 1; j >>>= 1) {
+            int rival = perdedores[j];
+            if (gana(rival, g)) {
+                perdedores[j] = g;
+                g = rival;
+            }
+        }
+        ganador = g;
+    }
+
+    private boolean gana(int a, int b) {
+        if (fuentes.agotada(a)) return fuentes.agotada(b) && a < b;
+        if (fuentes.agotada(b)) return true;
+        int c = fuentes.comparar(a, b);
+        return c < 0 || (c == 0 && a < b);
+    }
+}
@@ -0,0 +1,244 @@
+package model;
+
+import model.estructuras.Lista;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+/**
+ * Conjunto de políticos guardado en columnas binarias y leído con {@link FileChannel#map}.
+ * <p>
+ * Formato, todo en little-endian para que el archivo sirva igual en cualquier máquina:
+ * <pre>
+ *  0  int    MAGIA ("POLI")
+ *  4  short  VERSION
+ *  6  short  reservado (0)
+ *  8  long   cantidad de registros n
+ * 16  long   posición de la columna de ids      (n × int: el número de "P&lt;número&gt;")
+ * 24  long   posición de la columna de fechas   (n × int: día epoch del nacimiento)
+ * 32  long   posición de la columna de montos   (n × double, alineada a 8)
+ * </pre>
+ * Cargar solo lee la cabecera y mapea cada columna por separado, así que no hay pasada de
+ * lectura: las vistas ({@link #ids()}, {@link #dias()}, {@link #montos()}) leen directo de
+ * las páginas del archivo. Cada columna se mapea aparte para no chocar con el límite de
+ * 2 GB de un mapeo.
+ */
+public final class ArchivoPoliticos {
+    public static final int MAGIA = 0x504F4C49;
+    public static final short VERSION = 1;
+    public static final int CABECERA = 40;
+
+    private static final int MAX_REGISTROS = Integer.MAX_VALUE / Double.BYTES;
+
+    private final IntBuffer ids;
+    private final IntBuffer dias;
+    private final DoubleBuffer montos;
+    private final int n;
+
+    private ArchivoPoliticos(IntBuffer ids, IntBuffer dias, DoubleBuffer montos, int n) {
+        this.ids = ids;
+        this.dias = dias;
+        this.montos = montos;
+        this.n = n;
+    }
+
+    public static void guardar(Path archivo, Politico[] politicos) throws IOException {
+        int n = politicos.length;
+        int[] ids = new int[n];
+        int[] dias = new int[n];
+        double[] montos = new double[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = numeroDeId(politicos[i].getId());
+            dias[i] = Math.toIntExact(politicos[i].getFechaNacimiento().toEpochDay());
+            montos[i] = politicos[i].getDineroARobar();
+        }
+        guardar(archivo, ids, dias, montos);
+    }
+
+    /** Escribe las tres columnas; las tres deben tener el mismo largo. */
+    public static void guardar(Path archivo, int[] ids, int[] dias, double[] montos) throws IOException {
+        int n = ids.length;
+        if (dias.length != n || montos.length != n) {
+            throw new IllegalArgumentException("Las columnas no tienen el mismo largo: " + n + ", " + dias.length + ", " + montos.length);
+        }
+        if (n > MAX_REGISTROS) {
+            throw new IllegalArgumentException("Demasiados registros para un archivo: " + n);
+        }
+        Cabecera c = Cabecera.para(n);
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            c.escribir(canal);
+            if (n == 0) return;
+            mapear(canal, FileChannel.MapMode.READ_WRITE, c.posIds, (long) n * Integer.BYTES).asIntBuffer().put(ids);
+            mapear(canal, FileChannel.MapMode.READ_WRITE, c.posDias, (long) n * Integer.BYTES).asIntBuffer().put(dias);
+            mapear(canal, FileChannel.MapMode.READ_WRITE, c.posMontos, (long) n * Double.BYTES).asDoubleBuffer().put(montos);
+        }
+    }
+
+    /** Mapea el archivo en modo lectura; solo valida la cabecera y los tamaños. */
+    public static ArchivoPoliticos cargar(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            Cabecera c = Cabecera.leer(canal, archivo);
+            if (c.n > MAX_REGISTROS) {
+                throw new IOException("Demasiados registros para mapear en memoria (" + c.n + "): " + archivo);
+            }
+            int n = (int) c.n;
+            IntBuffer ids = mapear(canal, FileChannel.MapMode.READ_ONLY, c.posIds, (long) n * Integer.BYTES).asIntBuffer();
+            IntBuffer dias = mapear(canal, FileChannel.MapMode.READ_ONLY, c.posDias, (long) n * Integer.BYTES).asIntBuffer();
+            DoubleBuffer montos = mapear(canal, FileChannel.MapMode.READ_ONLY, c.posMontos, (long) n * Double.BYTES).asDoubleBuffer();
+            // El mapeo sigue vivo después de cerrar el canal
+            return new ArchivoPoliticos(ids, dias, montos, n);
+        }
+    }
+
+    public int size() {
+        return n;
+    }
+
+    /** Columna de ids, de solo lectura y sin copiar. */
+    public IntBuffer ids() {
+        return ids.duplicate();
+    }
+
+    /** Columna de días epoch de nacimiento, de solo lectura y sin copiar. */
+    public IntBuffer dias() {
+        return dias.duplicate();
+    }
+
+    /** Columna de montos, de solo lectura y sin copiar. */
+    public DoubleBuffer montos() {
+        return montos.duplicate();
+    }
+
+    public String id(int i) {
+        return "P" + ids.get(i);
+    }
+
+    public LocalDate fechaNacimiento(int i) {
+        return LocalDate.ofEpochDay(dias.get(i));
+    }
+
+    public double monto(int i) {
+        return montos.get(i);
+    }
+
+    public Politico politico(int i) {
+        return new Politico(id(i), fechaNacimiento(i), monto(i));
+    }
+
+    /** Copia en bloque de la columna de montos, lista para los motores que ordenan arreglos. */
+    public double[] copiarMontos() {
+        double[] copia = new double[n];
+        montos.duplicate().get(copia);
+        return copia;
+    }
+
+    /**
+     * Posiciones ordenadas por monto con {@link RadixSort#permutacion(double[], int, RadixSort.Metricas)},
+     * sin crear ningún {@link Politico}.
+     */
+    public int[] ordenPorMonto(RadixSort.Metricas m) {
+        return RadixSort.permutacion(copiarMontos(), RadixSort.BITS_POR_DEFECTO, m);
+    }
+
+    public Politico[] politicos() {
+        Politico[] politicos = new Politico[n];
+        for (int i = 0; i < n; i++) politicos[i] = politico(i);
+        return politicos;
+    }
+
+    public void llenar(Lista<Politico> lista) {
+        for (int i = 0; i < n; i++) lista.add(politico(i));
+    }
+
+    // Los ids de Politico son "P" seguido de un entero
+    private static int numeroDeId(String id) {
+        if (id.length() < 2 || id.charAt(0) != 'P') {
+            throw new IllegalArgumentException("Id no soportado por el formato: " + id);
+        }
+        try {
+            return Integer.parseInt(id.substring(1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Id no soportado por el formato: " + id, e);
+        }
+    }
+
+    private static ByteBuffer mapear(FileChannel canal, FileChannel.MapMode modo, long posicion, long largo) throws IOException {
+        MappedByteBuffer buffer = canal.map(modo, posicion, largo);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    /**
+     * Cabecera del formato. {@link MergeSortExterno} la usa para leer y escribir archivos que no
+     * caben en memoria, por eso la cantidad es {@code long} y aquí no se limita.
+     */
+    static final class Cabecera {
+        final long n;
+        final long posIds;
+        final long posDias;
+        final long posMontos;
+
+        private Cabecera(long n, long posIds, long posDias, long posMontos) {
+            this.n = n;
+            this.posIds = posIds;
+            this.posDias = posDias;
+            this.posMontos = posMontos;
+        }
+
+        /** Columnas seguidas después de la cabecera; la de montos queda alineada a 8. */
+        static Cabecera para(long n) {
+            long posIds = CABECERA;
+            long posDias = posIds + n * Integer.BYTES;
+            return new Cabecera(n, posIds, posDias, posDias + n * Integer.BYTES);
+        }
+
+        static Cabecera leer(FileChannel canal, Path archivo) throws IOException {
+            long tamano = canal.size();
+            if (tamano < CABECERA) {
+                throw new IOException("Archivo demasiado corto para la cabecera: " + archivo);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(CABECERA).order(ByteOrder.LITTLE_ENDIAN);
+            while (buffer.hasRemaining()) {
+                if (canal.read(buffer, buffer.position()) < 0) break;
+            }
+            buffer.flip();
+            if (buffer.getInt() != MAGIA) {
+                throw new IOException("No es un archivo de políticos: " + archivo);
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IOException("Versión de archivo no soportada: " + version);
+            }
+            buffer.getShort();
+            Cabecera c = new Cabecera(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+            if (c.n < 0 || c.n > Long.MAX_VALUE / Double.BYTES
+                    || !cabe(c.posIds, c.n * Integer.BYTES, tamano)
+                    || !cabe(c.posDias, c.n * Integer.BYTES, tamano)
+                    || !cabe(c.posMontos, c.n * Double.BYTES, tamano)
+                    || c.posMontos % Double.BYTES != 0) {
+                throw new IOException("Cabecera inconsistente con el tamaño del archivo: " + archivo);
+            }
+            return c;
+        }
+
+        void escribir(FileChannel canal) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(CABECERA).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIA).putShort(VERSION).putShort((short) 0)
+                    .putLong(n).putLong(posIds).putLong(posDias).putLong(posMontos).flip();
+            while (buffer.hasRemaining()) canal.write(buffer, buffer.position());
+        }
+
+        private static boolean cabe(long posicion, long largo, long tamano) {
+            return posicion >= CABECERA && posicion + largo <= tamano;
+        }
+    }
+}
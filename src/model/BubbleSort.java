@@ -0,0 +1,63 @@
+package model;
+
+import model.estructuras.*;
+
+/**
+ * Implementación de Bubble Sort con métricas de comparaciones, swaps y tiempo.
+ */
+public class BubbleSort {
+    public static class Metricas {
+        public long comparaciones = 0;
+        public long swaps = 0;
+        public long tiempoMillis = 0;
+    }
+
+    /**
+     * Ordena la lista en su lugar recorriéndola con cursores, sin accesos por índice.
+     */
+    public static <T extends Comparable<T>> void sort(Lista<T> lista, Metricas m) {
+        int size = lista.size();
+        long t0 = System.currentTimeMillis();
+        for (int i = 0; i < size - 1; i++) {
+            // Dos cursores desfasados una posición: lectura va en j + 1 y escritura en j
+            Cursor<T> lectura = lista.cursor();
+            Cursor<T> escritura = lista.cursor();
+            T actual = lectura.next();
+            for (int j = 0; j < size - i - 1; j++) {
+                T siguiente = lectura.next();
+                escritura.next();
+                m.comparaciones++;
+                if (actual.compareTo(siguiente) > 0) {
+                    escritura.set(siguiente);
+                    lectura.set(actual);
+                    m.swaps++;
+                } else {
+                    actual = siguiente;
+                }
+            }
+        }
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+    }
+
+    /**
+     * Ordena una lista de int sin boxing sobre una copia int[].
+     */
+    public static void sort(IntLista lista, Metricas m) {
+        int[] a = lista.toArray();
+        int size = a.length;
+        long t0 = System.currentTimeMillis();
+        for (int i = 0; i < size - 1; i++) {
+            for (int j = 0; j < size - i - 1; j++) {
+                m.comparaciones++;
+                if (a[j] > a[j + 1]) {
+                    int temp = a[j];
+                    a[j] = a[j + 1];
+                    a[j + 1] = temp;
+                    m.swaps++;
+                }
+            }
+        }
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+        lista.setAll(a);
+    }
+}
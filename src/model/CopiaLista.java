@@ -0,0 +1,41 @@
+package model;
+
+import model.estructuras.Cursor;
+import model.estructuras.Lista;
+
+/**
+ * Copia de ida y vuelta entre una {@link Lista} y un arreglo para los motores que ordenan
+ * sobre arreglos. La copia se hace en una pasada con el iterador y la escritura en otra con
+ * un cursor, así que las dos son O(n) en cualquier implementación y los datos vuelven a los
+ * mismos nodos.
+ */
+final class CopiaLista {
+    private CopiaLista() {
+    }
+
+    /**
+     * Copia la lista en un arreglo de {@code Comparable}. Solo sirve donde {@code T} es una
+     * variable de tipo: el arreglo no es un {@code T[]} real, así que asignarlo a un tipo
+     * concreto como {@code Politico[]} fallaría; para eso está {@link #copiar(Lista, Object[])}.
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Comparable<T>> T[] copiar(Lista<T> lista) {
+        return copiar(lista, (T[]) new Comparable<?>[lista.size()]);
+    }
+
+    /** Copia la lista en {@code a}, que debe tener {@code lista.size()} posiciones, y lo devuelve. */
+    static <T> T[] copiar(Lista<T> lista, T[] a) {
+        int i = 0;
+        for (T dato : lista) a[i++] = dato;
+        return a;
+    }
+
+    /** Sobrescribe los datos de la lista, en orden, con los de {@code a}. */
+    static <T> void escribir(Lista<T> lista, T[] a) {
+        Cursor<T> cursor = lista.cursor();
+        for (T dato : a) {
+            cursor.next();
+            cursor.set(dato);
+        }
+    }
+}
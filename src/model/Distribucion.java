@@ -0,0 +1,30 @@
+package model;
+
+/**
+ * Cómo vienen ordenados los datos antes de ordenar. Misma semilla, mismos datos; la
+ * generación la hace {@link GeneradorDatos} en paralelo.
+ */
+public enum Distribucion {
+    /** Uniforme. */
+    RANDOM,
+    SORTED,
+    REVERSED,
+    /** Ordenado con algunos pares intercambiados al azar (por defecto el 1% de n). */
+    NEARLY_SORTED,
+    /** Solo {@link GeneradorDatos#POCOS_VALORES} valores distintos. */
+    FEW_UNIQUE,
+    /** Pocos valores muy repetidos y una cola larga de valores raros. */
+    ZIPF,
+    /** Sube hasta la mitad y baja simétrico. */
+    ORGAN_PIPE,
+    /** {@link GeneradorDatos#DIENTES} tramos ascendentes seguidos. */
+    SAWTOOTH;
+
+    public double[] montos(int n, long semilla) {
+        return new GeneradorDatos(semilla).montos(this, n);
+    }
+
+    public Politico[] politicos(int n, long semilla) {
+        return new GeneradorDatos(semilla).politicos(this, n);
+    }
+}
@@ -0,0 +1,287 @@
+package model;
+
+import model.estructuras.DoubleLista;
+import model.estructuras.IntLista;
+import model.estructuras.Lista;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Genera datos de prueba repetibles y en paralelo. El arreglo se divide en bloques fijos de
+ * {@link #BLOQUE} posiciones y cada bloque usa su propio {@link SplittableRandom} derivado de
+ * la semilla y del número de bloque, así que el resultado depende solo de la semilla, la
+ * distribución y n, nunca de cuántos hilos tenga el pool.
+ * <p>
+ * Cada distribución produce primero un valor en [0, 1) por posición y luego se lleva al rango
+ * pedido; las que parten de datos ordenados usan {@link Arrays#parallelSort}.
+ */
+public final class GeneradorDatos {
+    public static final int BLOQUE = 1 << 14;
+
+    // Rango de los montos, igual que Politico.aleatorio()
+    public static final double MONTO_MIN = 1000;
+    public static final double MONTO_MAX = 1_000_000;
+
+    /** Valores distintos de FEW_UNIQUE. */
+    public static final int POCOS_VALORES = 10;
+    /** Rangos de la Zipf (exponente 1): el rango k sale con probabilidad proporcional a 1/k. */
+    public static final int ZIPF_RANGOS = 1000;
+    /** Cantidad de dientes de SAWTOOTH. */
+    public static final int DIENTES = 8;
+
+    private static final long SAL_INTERCAMBIOS = 0x5DEECE66DL;
+    private static final long SAL_FECHAS = 0x2545F4914F6CDD1DL;
+    private static final long SAL_NOMBRES = 0x7F4A7C159E3779B9L;
+    private static final LocalDate NACIMIENTO_MIN = LocalDate.of(1950, 1, 1);
+    private static final int DIAS_NACIMIENTO = (int) (LocalDate.of(2000, 1, 1).toEpochDay() - NACIMIENTO_MIN.toEpochDay());
+
+    private static final double[] ZIPF_ACUMULADA = zipfAcumulada();
+
+    private final long semilla;
+    private final ForkJoinPool pool;
+    private final int intercambios;
+
+    public GeneradorDatos(long semilla) {
+        this(semilla, ForkJoinPool.commonPool(), -1);
+    }
+
+    /**
+     * @param intercambios pares al azar que se intercambian en NEARLY_SORTED; si es negativo,
+     *                     el 1% de n (al menos uno)
+     */
+    public GeneradorDatos(long semilla, ForkJoinPool pool, int intercambios) {
+        this.semilla = semilla;
+        this.pool = pool;
+        this.intercambios = intercambios;
+    }
+
+    public long getSemilla() {
+        return semilla;
+    }
+
+    /** Montos en [MONTO_MIN, MONTO_MAX) con la forma pedida. */
+    public double[] montos(Distribucion d, int n) {
+        double[] a = new double[n];
+        llenar(d, n, (i, u) -> a[i] = MONTO_MIN + u * (MONTO_MAX - MONTO_MIN));
+        switch (d) {
+            case SORTED:
+                Arrays.parallelSort(a);
+                break;
+            case REVERSED:
+                Arrays.parallelSort(a);
+                invertir(a);
+                break;
+            case NEARLY_SORTED:
+                Arrays.parallelSort(a);
+                intercambiar(a, intercambios(n));
+                break;
+            default:
+                break;
+        }
+        return a;
+    }
+
+    /** Enteros en [0, limite) con la forma pedida. */
+    public int[] enteros(Distribucion d, int n, int limite) {
+        if (limite <= 0) {
+            throw new IllegalArgumentException("El límite debe ser mayor que 0: " + limite);
+        }
+        int[] a = new int[n];
+        llenar(d, n, (i, u) -> a[i] = (int) (u * limite));
+        switch (d) {
+            case SORTED:
+                Arrays.parallelSort(a);
+                break;
+            case REVERSED:
+                Arrays.parallelSort(a);
+                invertir(a);
+                break;
+            case NEARLY_SORTED:
+                Arrays.parallelSort(a);
+                intercambiar(a, intercambios(n));
+                break;
+            default:
+                break;
+        }
+        return a;
+    }
+
+    /** Políticos con montos de {@link #montos} y fechas de nacimiento entre 1950 y 1999. */
+    public Politico[] politicos(Distribucion d, int n) {
+        double[] montos = montos(d, n);
+        Politico[] politicos = new Politico[n];
+        pool.invoke(new Tarea(0, bloques(n), (bloque, desde, hasta) -> {
+            SplittableRandom random = new SplittableRandom(semillaDeBloque(semilla ^ SAL_FECHAS, bloque));
+            for (int i = desde; i < hasta; i++) {
+                LocalDate nacimiento = NACIMIENTO_MIN.plusDays(random.nextInt(DIAS_NACIMIENTO));
+                politicos[i] = new Politico("P" + i, nacimiento, montos[i]);
+            }
+        }, n));
+        return politicos;
+    }
+
+    /**
+     * Políticos de los modelos Insertion/Selection: dinero entero entre
+     * {@link Politician#MIN_MONEY} y {@link Politician#MAX_MONEY} con la forma pedida y nombres
+     * al azar de la tabla de {@link Politician}.
+     */
+    public Politician[] politicians(Distribucion d, int n) {
+        int[] dinero = enteros(d, n, Politician.MAX_MONEY - Politician.MIN_MONEY + 1);
+        Politician[] politicians = new Politician[n];
+        pool.invoke(new Tarea(0, bloques(n), (bloque, desde, hasta) -> {
+            SplittableRandom random = new SplittableRandom(semillaDeBloque(semilla ^ SAL_NOMBRES, bloque));
+            for (int i = desde; i < hasta; i++) {
+                politicians[i] = new Politician(random.nextInt(Politician.FIRST_NAME_COUNT),
+                        random.nextInt(Politician.LAST_NAME_COUNT), Politician.MIN_MONEY + dinero[i]);
+            }
+        }, n));
+        return politicians;
+    }
+
+    public void llenar(DoubleLista lista, Distribucion d, int n) {
+        lista.addAll(montos(d, n));
+    }
+
+    public void llenar(IntLista lista, Distribucion d, int n, int limite) {
+        lista.addAll(enteros(d, n, limite));
+    }
+
+    public void llenar(Lista<Politico> lista, Distribucion d, int n) {
+        lista.addAll(politicos(d, n));
+    }
+
+    // Escribe en cada posición el valor en [0, 1) de la distribución, bloque por bloque en paralelo
+    private void llenar(Distribucion d, int n, Escritura escritura) {
+        pool.invoke(new Tarea(0, bloques(n), (bloque, desde, hasta) -> {
+            SplittableRandom random = new SplittableRandom(semillaDeBloque(semilla, bloque));
+            for (int i = desde; i < hasta; i++) {
+                escritura.poner(i, unitario(d, i, n, random));
+            }
+        }, n));
+    }
+
+    private static double unitario(Distribucion d, int i, int n, SplittableRandom random) {
+        switch (d) {
+            case FEW_UNIQUE:
+                return random.nextInt(POCOS_VALORES) / (double) POCOS_VALORES;
+            case ZIPF: {
+                int rango = Arrays.binarySearch(ZIPF_ACUMULADA, random.nextDouble());
+                if (rango < 0) rango = -rango - 1;
+                return Math.min(rango, ZIPF_RANGOS - 1) / (double) ZIPF_RANGOS;
+            }
+            case ORGAN_PIPE: {
+                // Sube hasta la mitad y baja simétrico
+                int mitad = (n + 1) / 2;
+                return Math.min(i, n - 1 - i) / (double) mitad;
+            }
+            case SAWTOOTH: {
+                int diente = Math.max(1, (n + DIENTES - 1) / DIENTES);
+                return (i % diente) / (double) diente;
+            }
+            default:
+                // RANDOM y las que se ordenan después
+                return random.nextDouble();
+        }
+    }
+
+    private int intercambios(int n) {
+        return intercambios >= 0 ? intercambios : Math.max(1, n / 100);
+    }
+
+    private void intercambiar(double[] a, int k) {
+        if (a.length < 2) return;
+        SplittableRandom random = new SplittableRandom(semilla ^ SAL_INTERCAMBIOS);
+        for (int t = 0; t < k; t++) {
+            int i = random.nextInt(a.length), j = random.nextInt(a.length);
+            double tmp = a[i];
+            a[i] = a[j];
+            a[j] = tmp;
+        }
+    }
+
+    private void intercambiar(int[] a, int k) {
+        if (a.length < 2) return;
+        SplittableRandom random = new SplittableRandom(semilla ^ SAL_INTERCAMBIOS);
+        for (int t = 0; t < k; t++) {
+            int i = random.nextInt(a.length), j = random.nextInt(a.length);
+            int tmp = a[i];
+            a[i] = a[j];
+            a[j] = tmp;
+        }
+    }
+
+    private static void invertir(double[] a) {
+        for (int i = 0, j = a.length - 1; i < j; i++, j--) {
+            double t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+
+    private static void invertir(int[] a) {
+        for (int i = 0, j = a.length - 1; i < j; i++, j--) {
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+
+    private static int bloques(int n) {
+        return (n + BLOQUE - 1) / BLOQUE;
+    }
+
+    // Semillas bien separadas aunque los números de bloque sean consecutivos
+    private static long semillaDeBloque(long semilla, int bloque) {
+        return semilla ^ (bloque * 0x9E3779B97F4A7C15L);
+    }
+
+    private static double[] zipfAcumulada() {
+        double[] acumulada = new double[ZIPF_RANGOS];
+        double suma = 0;
+        for (int k = 0; k < ZIPF_RANGOS; k++) {
+            suma += 1.0 / (k + 1);
+            acumulada[k] = suma;
+        }
+        for (int k = 0; k < ZIPF_RANGOS; k++) acumulada[k] /= suma;
+        return acumulada;
+    }
+
+    @FunctionalInterface
+    private interface Escritura {
+        void poner(int indice, double unitario);
+    }
+
+    @FunctionalInterface
+    private interface TrabajoBloque {
+        void hacer(int bloque, int desde, int hasta);
+    }
+
+    // Reparte los bloques [lo, hi) partiendo a la mitad hasta quedar con uno
+    private static final class Tarea extends RecursiveAction {
+        private final int lo, hi, n;
+        private final TrabajoBloque trabajo;
+
+        Tarea(int lo, int hi, TrabajoBloque trabajo, int n) {
+            this.lo = lo;
+            this.hi = hi;
+            this.trabajo = trabajo;
+            this.n = n;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= 1) {
+                if (lo < hi) {
+                    trabajo.hacer(lo, lo * BLOQUE, Math.min(n, (lo + 1) * BLOQUE));
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new Tarea(lo, mid, trabajo, n), new Tarea(mid, hi, trabajo, n));
+        }
+    }
+}
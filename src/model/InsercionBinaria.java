@@ -0,0 +1,164 @@
+package model;
+
+import model.estructuras.*;
+import java.util.Comparator;
+
+/**
+ * Insertion sort para arreglos: el punto de inserción se busca con búsqueda binaria, así
+ * que las comparaciones bajan a O(n log n), y el corrimiento se hace en bloque con
+ * {@link System#arraycopy} en vez de escribir posición por posición. Los movimientos siguen
+ * siendo O(n²) en el peor caso, por eso se cuentan aparte. Un movimiento es una escritura en
+ * el arreglo: cada elemento corrido más la clave, como en las mezclas de {@link TimSort}.
+ * <p>
+ * El modo con galope busca desde el final de la parte ordenada con saltos 1, 2, 4, ... y
+ * termina con búsqueda binaria en el último salto: un elemento que ya está en su lugar
+ * cuesta una sola comparación y uno desplazado d posiciones unas 2·log d, lo que conviene
+ * con entradas casi ordenadas. Ambos modos son estables.
+ * <p>
+ * Si el principio del tramo ya está ordenado se puede indicar su largo y la inserción empieza
+ * después; así alarga {@link TimSort} las corridas cortas hasta minrun.
+ * <p>
+ * Con una {@link TrazaOrdenamiento} graba cada sondeo como comparación contra la posición de
+ * la clave, cada corrimiento en bloque como un reenlace y el fin de cada iteración, que es lo
+ * que reproducen las pantallas de los modelos.
+ */
+public class InsercionBinaria {
+    public static class Metricas {
+        public long comparaciones = 0;
+        public long movimientos = 0;  // escrituras: elementos corridos para abrir el hueco y la clave
+        public long tiempoMillis = 0;
+    }
+
+    public static <T extends Comparable<T>> void sort(Lista<T> lista, Metricas m) {
+        sort(lista, false, m);
+    }
+
+    public static <T extends Comparable<T>> void sortConGalope(Lista<T> lista, Metricas m) {
+        sort(lista, true, m);
+    }
+
+    public static <T> void sort(T[] a, Comparator<? super T> cmp, Metricas m) {
+        long t0 = System.currentTimeMillis();
+        sort(a, 0, a.length, false, cmp, m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+    }
+
+    public static <T> void sortConGalope(T[] a, Comparator<? super T> cmp, Metricas m) {
+        long t0 = System.currentTimeMillis();
+        sort(a, 0, a.length, true, cmp, m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+    }
+
+    public static void sort(IntLista lista, Metricas m) {
+        int[] a = lista.toArray();
+        sort(a, m);
+        lista.setAll(a);
+    }
+
+    public static void sort(int[] a, Metricas m) {
+        long t0 = System.currentTimeMillis();
+        sort(a, 0, a.length, false, m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+    }
+
+    public static void sortConGalope(int[] a, Metricas m) {
+        long t0 = System.currentTimeMillis();
+        sort(a, 0, a.length, true, m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+    }
+
+    private static <T extends Comparable<T>> void sort(Lista<T> lista, boolean galope, Metricas m) {
+        T[] a = CopiaLista.copiar(lista);
+        long t0 = System.currentTimeMillis();
+        sort(a, 0, a.length, galope, Comparator.naturalOrder(), m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+        CopiaLista.escribir(lista, a);
+    }
+
+    // Ordena a[lo, hi)
+    static <T> void sort(T[] a, int lo, int hi, boolean galope, Comparator<? super T> cmp, Metricas m) {
+        sort(a, lo, hi, 1, galope, cmp, null, m);
+    }
+
+    // Ordena a[lo, hi) grabando en la traza si no es null
+    static <T> void sort(T[] a, int lo, int hi, boolean galope, Comparator<? super T> cmp, TrazaOrdenamiento traza,
+                         Metricas m) {
+        sort(a, lo, hi, 1, galope, cmp, traza, m);
+    }
+
+    // Ordena a[lo, hi) sabiendo que a[lo, lo + ordenados) ya está ordenado
+    static <T> void sort(T[] a, int lo, int hi, int ordenados, boolean galope, Comparator<? super T> cmp,
+                         TrazaOrdenamiento traza, Metricas m) {
+        for (int i = lo + Math.max(ordenados, 1); i < hi; i++) {
+            T clave = a[i];
+            int pos = galope ? galopar(a, lo, i, clave, cmp, traza, m) : buscar(a, lo, i, i, clave, cmp, traza, m);
+            if (pos != i) {
+                System.arraycopy(a, pos, a, pos + 1, i - pos);
+                a[pos] = clave;
+                m.movimientos += i - pos + 1;
+                if (traza != null) traza.reenlace(i, pos);
+            }
+            if (traza != null) traza.progreso(i, hi - 1);
+        }
+    }
+
+    // Primera posición de a[lo, hi) con un elemento mayor que la clave (después de los iguales);
+    // la clave está en a[indice]
+    private static <T> int buscar(T[] a, int lo, int hi, int indice, T clave, Comparator<? super T> cmp,
+                                  TrazaOrdenamiento traza, Metricas m) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            m.comparaciones++;
+            if (traza != null) traza.comparacion(mid, indice);
+            if (cmp.compare(a[mid], clave) <= 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // Igual que buscar, pero acercándose desde hi (donde está la clave) con saltos que se duplican
+    private static <T> int galopar(T[] a, int lo, int hi, T clave, Comparator<? super T> cmp,
+                                   TrazaOrdenamiento traza, Metricas m) {
+        int mayor = hi; // a[mayor, hi) ya se sabe mayor que la clave
+        for (int salto = 1; ; salto <<= 1) {
+            int j = hi - salto;
+            if (j < lo) return buscar(a, lo, mayor, hi, clave, cmp, traza, m);
+            m.comparaciones++;
+            if (traza != null) traza.comparacion(j, hi);
+            if (cmp.compare(a[j], clave) <= 0) return buscar(a, j + 1, mayor, hi, clave, cmp, traza, m);
+            mayor = j;
+        }
+    }
+
+    static void sort(int[] a, int lo, int hi, boolean galope, Metricas m) {
+        for (int i = lo + 1; i < hi; i++) {
+            int clave = a[i];
+            int pos = galope ? galopar(a, lo, i, clave, m) : buscar(a, lo, i, clave, m);
+            if (pos == i) continue;
+            System.arraycopy(a, pos, a, pos + 1, i - pos);
+            a[pos] = clave;
+            m.movimientos += i - pos + 1;
+        }
+    }
+
+    private static int buscar(int[] a, int lo, int hi, int clave, Metricas m) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            m.comparaciones++;
+            if (a[mid] <= clave) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static int galopar(int[] a, int lo, int hi, int clave, Metricas m) {
+        int mayor = hi;
+        for (int salto = 1; ; salto <<= 1) {
+            int j = hi - salto;
+            if (j < lo) return buscar(a, lo, mayor, clave, m);
+            m.comparaciones++;
+            if (a[j] <= clave) return buscar(a, j + 1, mayor, clave, m);
+            mayor = j;
+        }
+    }
+}
@@ -1,28 +1,12 @@
 package model;
 
-import java.util.Random;
 
 public class InsertionDoubleCircularModel {
 
     private Node head;
     private int size;
-    private Random random;
-
-    // Lista de nombres de políticos corruptos ficticios
-    private static final String[] FIRST_NAMES = {
-            "Corrupto", "Ladino", "Sinvergüenza", "Ratero", "Saqueador",
-            "Robaldo", "Malandro", "Estafador", "Timador", "Tramposo",
-            "Ladrón", "Pillador", "Mangante", "Cleptómano", "Usurpador",
-            "Defraudor", "Embustero", "Trapacero", "Chantajista", "Sobornador"
-    };
-
-    private static final String[] LAST_NAMES = {
-            "Roba Todo", "Mata Fuego", "Saca Plata", "Mete Mano",
-            "Come Mucho", "Pide Más", "Agarra Todo", "Lleva Lejos",
-            "Hurta Bien", "Afana Legal", "Birla Fácil", "Sustrae Fino",
-            "Manga Limpio", "Rapiña Libre", "Escamotea Rápido", "Desfalca Pro",
-            "Sisea Experto", "Chorea Master", "Tranza VIP", "Tumba Elite"
-    };
+    // Semilla de la próxima generación; cada llamada usa la siguiente
+    private long semilla;
 
     // Clase interna para representar un nodo de la lista doble circular
     private static class Node {
@@ -37,49 +21,26 @@ public class InsertionDoubleCircularModel {
         }
     }
 
-    // Clase interna para representar un político
-    public static class Politician {
-        private String name;
-        private int moneyToSteal;
-
-        public Politician(String name, int moneyToSteal) {
-            this.name = name;
-            this.moneyToSteal = moneyToSteal;
-        }
-
-        public String getName() {
-            return name;
-        }
-
-        public int getMoneyToSteal() {
-            return moneyToSteal;
-        }
-
-        @Override
-        public String toString() {
-            return name + " ($" + moneyToSteal + ")";
-        }
-    }
-
     public InsertionDoubleCircularModel() {
         head = null;
         size = 0;
-        random = new Random();
+        semilla = System.nanoTime();
+    }
+
+    // Con semilla: la primera generación es la de GeneradorDatos con esa semilla y RANDOM
+    public InsertionDoubleCircularModel(long semilla) {
+        this();
+        this.semilla = semilla;
     }
 
     // Generar políticos aleatorios
     public void generateRandomPoliticians(int count) {
         clear();
 
-        for (int i = 0; i < count; i++) {
-            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
-            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
-            String fullName = firstName + " " + lastName;
-
-            // Generar cantidad aleatoria de dinero a robar (entre 10,000 y 1,000,000)
-            int moneyToSteal = 10000 + random.nextInt(990001);
-
-            add(new Politician(fullName, moneyToSteal));
+        // Nombres y dinero salen de GeneradorDatos en bloque, sin armar Strings
+        Politician[] generados = new GeneradorDatos(semilla++).politicians(Distribucion.RANDOM, Math.max(count, 0));
+        for (Politician politician : generados) {
+            add(politician);
         }
     }
 
@@ -165,6 +126,11 @@ public class InsertionDoubleCircularModel {
 
     // Implementación del insertion sort para lista doble circular
     public int insertionSort() {
+        return insertionSort(null);
+    }
+
+    // Igual que insertionSort(), grabando cada paso en la traza si no es null
+    public int insertionSort(TrazaOrdenamiento traza) {
         if (head == null || size <= 1) {
             return 0;
         }
@@ -185,6 +151,7 @@ public class InsertionDoubleCircularModel {
             // Búsqueda en la parte ordenada
             for (int j = 0; j < i; j++) {
                 iterations++;
+                if (traza != null) traza.comparacion(j, i);
                 if (searchNode.data.getMoneyToSteal() > key.getMoneyToSteal()) {
                     shouldMove = true;
                     break;
@@ -215,7 +182,9 @@ public class InsertionDoubleCircularModel {
                     insertAfter.next = nodeToMove;
                     searchNode.prev = nodeToMove;
                 }
+                if (traza != null) traza.reenlace(i, position);
             }
+            if (traza != null) traza.progreso(i, size - 1);
 
             current = nextNode;
         }
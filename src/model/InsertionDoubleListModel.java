@@ -1,29 +1,13 @@
 package model;
 
-import java.util.Random;
 
 public class InsertionDoubleListModel {
 
     private Node head;
     private Node tail;
     private int size;
-    private Random random;
-
-    // Lista de nombres de políticos corruptos ficticios
-    private static final String[] FIRST_NAMES = {
-            "Corrupto", "Ladino", "Sinvergüenza", "Ratero", "Saqueador",
-            "Robaldo", "Malandro", "Estafador", "Timador", "Tramposo",
-            "Ladrón", "Pillador", "Mangante", "Cleptómano", "Usurpador",
-            "Defraudor", "Embustero", "Trapacero", "Chantajista", "Sobornador"
-    };
-
-    private static final String[] LAST_NAMES = {
-            "Roba Todo", "Mata Fuego", "Saca Plata", "Mete Mano",
-            "Come Mucho", "Pide Más", "Agarra Todo", "Lleva Lejos",
-            "Hurta Bien", "Afana Legal", "Birla Fácil", "Sustrae Fino",
-            "Manga Limpio", "Rapiña Libre", "Escamotea Rápido", "Desfalca Pro",
-            "Sisea Experto", "Chorea Master", "Tranza VIP", "Tumba Elite"
-    };
+    // Semilla de la próxima generación; cada llamada usa la siguiente
+    private long semilla;
 
     // Clase interna para representar un nodo de la lista doble
     private static class Node {
@@ -38,50 +22,27 @@ public class InsertionDoubleListModel {
         }
     }
 
-    // Clase interna para representar un político
-    public static class Politician {
-        private String name;
-        private int moneyToSteal;
-
-        public Politician(String name, int moneyToSteal) {
-            this.name = name;
-            this.moneyToSteal = moneyToSteal;
-        }
-
-        public String getName() {
-            return name;
-        }
-
-        public int getMoneyToSteal() {
-            return moneyToSteal;
-        }
-
-        @Override
-        public String toString() {
-            return name + " ($" + moneyToSteal + ")";
-        }
-    }
-
     public InsertionDoubleListModel() {
         head = null;
         tail = null;
         size = 0;
-        random = new Random();
+        semilla = System.nanoTime();
+    }
+
+    // Con semilla: la primera generación es la de GeneradorDatos con esa semilla y RANDOM
+    public InsertionDoubleListModel(long semilla) {
+        this();
+        this.semilla = semilla;
     }
 
     // Generar políticos aleatorios
     public void generateRandomPoliticians(int count) {
         clear();
 
-        for (int i = 0; i < count; i++) {
-            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
-            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
-            String fullName = firstName + " " + lastName;
-
-            // Generar cantidad aleatoria de dinero a robar (entre 10,000 y 1,000,000)
-            int moneyToSteal = 10000 + random.nextInt(990001);
-
-            add(new Politician(fullName, moneyToSteal));
+        // Nombres y dinero salen de GeneradorDatos en bloque, sin armar Strings
+        Politician[] generados = new GeneradorDatos(semilla++).politicians(Distribucion.RANDOM, Math.max(count, 0));
+        for (Politician politician : generados) {
+            add(politician);
         }
     }
 
@@ -157,12 +118,18 @@ public class InsertionDoubleListModel {
 
     // Implementación del insertion sort para lista doble
     public int insertionSort() {
+        return insertionSort(null);
+    }
+
+    // Igual que insertionSort(), grabando cada paso en la traza si no es null
+    public int insertionSort(TrazaOrdenamiento traza) {
         if (head == null || size <= 1) {
             return 0;
         }
 
         int iterations = 0;
         Node current = head.next; // Empezamos desde el segundo elemento
+        int index = 1;
 
         while (current != null) {
             Node nextNode = current.next;
@@ -170,9 +137,15 @@ public class InsertionDoubleListModel {
 
             // Buscar la posición de inserción
             Node search = head;
-            while (search != current && search.data.getMoneyToSteal() <= key.getMoneyToSteal()) {
+            int position = 0;
+            while (search != current) {
+                if (traza != null) traza.comparacion(position, index);
+                if (search.data.getMoneyToSteal() > key.getMoneyToSteal()) {
+                    break;
+                }
                 iterations++;
                 search = search.next;
+                position++;
             }
 
             // Si necesitamos mover el nodo
@@ -204,9 +177,12 @@ public class InsertionDoubleListModel {
                     }
                     search.prev = current;
                 }
+                if (traza != null) traza.reenlace(index, position);
             }
+            if (traza != null) traza.progreso(index, size - 1);
 
             current = nextNode;
+            index++;
         }
 
         return iterations;
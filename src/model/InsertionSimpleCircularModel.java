@@ -1,28 +1,12 @@
 package model;
 
-import java.util.Random;
 
 public class InsertionSimpleCircularModel {
 
     private Node head;
     private int size;
-    private Random random;
-
-    // Lista de nombres de políticos corruptos ficticios
-    private static final String[] FIRST_NAMES = {
-            "Corrupto", "Ladino", "Sinvergüenza", "Ratero", "Saqueador",
-            "Robaldo", "Malandro", "Estafador", "Timador", "Tramposo",
-            "Ladrón", "Pillador", "Mangante", "Cleptómano", "Usurpador",
-            "Defraudor", "Embustero", "Trapacero", "Chantajista", "Sobornador"
-    };
-
-    private static final String[] LAST_NAMES = {
-            "Roba Todo", "Mata Fuego", "Saca Plata", "Mete Mano",
-            "Come Mucho", "Pide Más", "Agarra Todo", "Lleva Lejos",
-            "Hurta Bien", "Afana Legal", "Birla Fácil", "Sustrae Fino",
-            "Manga Limpio", "Rapiña Libre", "Escamotea Rápido", "Desfalca Pro",
-            "Sisea Experto", "Chorea Master", "Tranza VIP", "Tumba Elite"
-    };
+    // Semilla de la próxima generación; cada llamada usa la siguiente
+    private long semilla;
 
     // Clase interna para representar un nodo de la lista
     private static class Node {
@@ -35,69 +19,39 @@ public class InsertionSimpleCircularModel {
         }
     }
 
-    // Clase interna para representar un político
-    public static class Politician {
-        private String name;
-        private int moneyToSteal;
-
-        public Politician(String name, int moneyToSteal) {
-            this.name = name;
-            this.moneyToSteal = moneyToSteal;
-        }
-
-        public String getName() {
-            return name;
-        }
-
-        public int getMoneyToSteal() {
-            return moneyToSteal;
-        }
-
-        @Override
-        public String toString() {
-            return name + " ($" + moneyToSteal + ")";
-        }
-    }
-
     public InsertionSimpleCircularModel() {
         head = null;
         size = 0;
-        random = new Random();
+        semilla = System.nanoTime();
+    }
+
+    // Con semilla: la primera generación es la de GeneradorDatos con esa semilla y RANDOM
+    public InsertionSimpleCircularModel(long semilla) {
+        this();
+        this.semilla = semilla;
     }
 
     // Generar políticos aleatorios
     public void generateRandomPoliticians(int count) {
         clear();
 
-        for (int i = 0; i < count; i++) {
-            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
-            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
-            String fullName = firstName + " " + lastName;
-
-            // Generar cantidad aleatoria de dinero a robar (entre 10,000 y 1,000,000)
-            int moneyToSteal = 10000 + random.nextInt(990001);
-
-            add(new Politician(fullName, moneyToSteal));
-        }
-    }
-
-    // Añadir un político al final de la lista circular
-    private void add(Politician politician) {
-        Node newNode = new Node(politician);
-
-        if (head == null) {
-            head = newNode;
-            head.next = head; // Apunta a sí mismo
-        } else {
-            Node current = head;
-            // Encontrar el último nodo (el que apunta a head)
-            while (current.next != head) {
-                current = current.next;
+        // Nombres y dinero salen de GeneradorDatos en bloque, sin armar Strings;
+        // se enlaza llevando el último nodo en lugar de recorrer la lista por cada alta
+        Node last = null;
+        Politician[] generados = new GeneradorDatos(semilla++).politicians(Distribucion.RANDOM, Math.max(count, 0));
+        for (Politician politician : generados) {
+            Node newNode = new Node(politician);
+            if (head == null) {
+                head = newNode;
+            } else {
+                last.next = newNode;
             }
-            current.next = newNode;
-            newNode.next = head; // El nuevo nodo apunta al head
+            last = newNode;
+            size++;
+        }
+        if (last != null) {
+            last.next = head; // El último nodo apunta al head
         }
-        size++;
     }
 
     // Limpiar la lista
@@ -157,6 +111,11 @@ public class InsertionSimpleCircularModel {
 
     // Implementación del insertion sort para lista circular
     public int insertionSort() {
+        return insertionSort(null);
+    }
+
+    // Igual que insertionSort(), grabando cada paso en la traza si no es null
+    public int insertionSort(TrazaOrdenamiento traza) {
         if (head == null || size <= 1) {
             return 0;
         }
@@ -176,7 +135,11 @@ public class InsertionSimpleCircularModel {
             Node prevSearch = null;
             int j = 0;
 
-            while (j < i && searchNode.data.getMoneyToSteal() <= key.getMoneyToSteal()) {
+            while (j < i) {
+                if (traza != null) traza.comparacion(j, i);
+                if (searchNode.data.getMoneyToSteal() > key.getMoneyToSteal()) {
+                    break;
+                }
                 iterations++;
                 prevSearch = searchNode;
                 searchNode = searchNode.next;
@@ -195,12 +158,13 @@ public class InsertionSimpleCircularModel {
                 // Insertar en la nueva posición
                 if (prevSearch == null) {
                     // Insertar al principio
-                    nodeToInsert.next = head;
+                    Node oldHead = head;
+                    nodeToInsert.next = oldHead;
                     head = nodeToInsert;
 
-                    // Actualizar el último nodo para que apunte al nuevo head
-                    Node last = head;
-                    while (last.next != temp.next) {
+                    // Actualizar el último nodo (el que apuntaba al head anterior) para que apunte al nuevo head
+                    Node last = oldHead;
+                    while (last.next != oldHead) {
                         last = last.next;
                     }
                     last.next = head;
@@ -209,7 +173,9 @@ public class InsertionSimpleCircularModel {
                     nodeToInsert.next = prevSearch.next;
                     prevSearch.next = nodeToInsert;
                 }
+                if (traza != null) traza.reenlace(i, j);
             }
+            if (traza != null) traza.progreso(i, size - 1);
 
             // Avanzar al siguiente nodo para la próxima iteración
             current = nextNode;
@@ -1,104 +1,97 @@
 package model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Random;
 
 public class InsertionSimpleListModel {
 
-    private List<Politician> politicians;
-    private Random random;
-
-    // Lista de nombres de políticos corruptos ficticios
-    private static final String[] FIRST_NAMES = {
-            "Corrupto", "Ladino", "Sinvergüenza", "Ratero", "Saqueador",
-            "Robaldo", "Malandro", "Estafador", "Timador", "Tramposo",
-            "Ladrón", "Pillador", "Mangante", "Cleptómano", "Usurpador",
-            "Defraudor", "Embustero", "Trapacero", "Chantajista", "Sobornador"
-    };
-
-    private static final String[] LAST_NAMES = {
-            "Roba Todo", "Mata Fuego", "Saca Plata", "Mete Mano",
-            "Come Mucho", "Pide Más", "Agarra Todo", "Lleva Lejos",
-            "Hurta Bien", "Afana Legal", "Birla Fácil", "Sustrae Fino",
-            "Manga Limpio", "Rapiña Libre", "Escamotea Rápido", "Desfalca Pro",
-            "Sisea Experto", "Chorea Master", "Tranza VIP", "Tumba Elite"
-    };
+    private static final Comparator<Politician> BY_MONEY = Comparator.comparingInt(Politician::getMoneyToSteal);
+
+    // Arreglo propio en vez de ArrayList: el corrimiento de la inserción se hace en bloque
+    private Politician[] politicians;
+    // Semilla de la próxima generación; cada llamada usa la siguiente
+    private long semilla;
+    private long lastComparisons;
+    private long lastMoves;
 
     public InsertionSimpleListModel() {
-        politicians = new ArrayList<>();
-        random = new Random();
+        politicians = new Politician[0];
+        semilla = System.nanoTime();
     }
 
-    // Clase interna para representar un político
-    public static class Politician {
-        private String name;
-        private int moneyToSteal;
-
-        public Politician(String name, int moneyToSteal) {
-            this.name = name;
-            this.moneyToSteal = moneyToSteal;
-        }
-
-        public String getName() {
-            return name;
-        }
-
-        public int getMoneyToSteal() {
-            return moneyToSteal;
-        }
-
-        @Override
-        public String toString() {
-            return name + " ($" + moneyToSteal + ")";
-        }
+    // Con semilla: la primera generación es la de GeneradorDatos con esa semilla y RANDOM
+    public InsertionSimpleListModel(long semilla) {
+        this();
+        this.semilla = semilla;
     }
 
     // Generar políticos aleatorios
     public void generateRandomPoliticians(int count) {
-        politicians.clear();
-
-        for (int i = 0; i < count; i++) {
-            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
-            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
-            String fullName = firstName + " " + lastName;
-
-            // Generar cantidad aleatoria de dinero a robar (entre 10,000 y 1,000,000)
-            int moneyToSteal = 10000 + random.nextInt(990001);
-
-            politicians.add(new Politician(fullName, moneyToSteal));
-        }
+        // Nombres y dinero salen de GeneradorDatos en bloque, sin armar Strings
+        politicians = new GeneradorDatos(semilla++).politicians(Distribucion.RANDOM, Math.max(count, 0));
     }
 
     // Obtener el tamaño de la lista
     public int getSize() {
-        return politicians.size();
+        return politicians.length;
     }
 
     // Obtener un político por índice
     public Politician getPolitician(int index) {
-        if (index >= 0 && index < politicians.size()) {
-            return politicians.get(index);
+        if (index >= 0 && index < politicians.length) {
+            return politicians[index];
         }
         return null;
     }
 
     // Establecer un político en una posición específica
     public void setPolitician(int index, Politician politician) {
-        if (index >= 0 && index < politicians.size()) {
-            politicians.set(index, politician);
+        if (index >= 0 && index < politicians.length) {
+            politicians[index] = politician;
         }
     }
 
+    public int insertionSort() {
+        return insertionSort(null, false);
+    }
+
+    public int insertionSort(TrazaOrdenamiento traza) {
+        return insertionSort(traza, false);
+    }
+
+    /**
+     * Insertion sort binario de {@link InsercionBinaria} sobre el arreglo (o con galope desde el
+     * final, para datos casi ordenados), grabando cada sondeo y cada corrimiento en la traza si
+     * no es null. Devuelve las comparaciones; los elementos movidos (los corridos más cada clave
+     * reubicada) quedan en {@link #getLastMoves()}.
+     */
+    public int insertionSort(TrazaOrdenamiento traza, boolean gallop) {
+        InsercionBinaria.Metricas m = new InsercionBinaria.Metricas();
+        InsercionBinaria.sort(politicians, 0, politicians.length, gallop, BY_MONEY, traza, m);
+        lastComparisons = m.comparaciones;
+        lastMoves = m.movimientos;
+        return (int) lastComparisons;
+    }
+
+    public long getLastComparisons() {
+        return lastComparisons;
+    }
+
+    public long getLastMoves() {
+        return lastMoves;
+    }
+
     public List<Politician> getAllPoliticians() {
-        return new ArrayList<>(politicians);
+        return new ArrayList<>(Arrays.asList(politicians));
     }
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < politicians.size(); i++) {
-            sb.append("[").append(i).append("] ").append(politicians.get(i));
-            if (i < politicians.size() - 1) {
+        for (int i = 0; i < politicians.length; i++) {
+            sb.append("[").append(i).append("] ").append(politicians[i]);
+            if (i < politicians.length - 1) {
                 sb.append(", ");
             }
         }
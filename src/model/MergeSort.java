@@ -2,12 +2,15 @@ package model;
 
 import model.estructuras.*;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 public class MergeSort {
     public static class Metricas {
         public long comparaciones = 0;
         public long swaps = 0;
+        // Escrituras de elementos hechas por la mezcla (solo el modo con buffer las separa de swaps)
+        public long movimientos = 0;
         public long tiempoMillis = 0;
     }
 
@@ -15,7 +18,7 @@ public class MergeSort {
         int n = lista.size();
         // Copiamos a un ArrayList para facilitar el merge
         List<T> aux = new ArrayList<>(n);
-        for (int i = 0; i < n; i++) aux.add(lista.get(i));
+        for (T dato : lista) aux.add(dato);
 
         long t0 = System.currentTimeMillis();
         mergeSort(aux, 0, n - 1, m);
@@ -23,7 +26,129 @@ public class MergeSort {
 
         // Volvemos a la lista original
         lista.clear();
-        aux.forEach(lista::add);
+        lista.addAll(aux);
+    }
+
+    /**
+     * Ordena reenlazando los nodos de la propia lista, sin copiarla a un ArrayList.
+     */
+    public static <T extends Comparable<T>> void sortEnNodos(Lista<T> lista, Metricas m) {
+        ConteoOrden c = new ConteoOrden();
+        long t0 = System.currentTimeMillis();
+        lista.mergeSort(Comparator.naturalOrder(), c);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+        m.comparaciones += c.comparaciones;
+        m.swaps += c.adelantos;
+    }
+
+    /**
+     * Modo sin asignaciones por mezcla: un único arreglo auxiliar creado al inicio, que
+     * alterna con el original como origen y destino en cada nivel. Si dos tramos vecinos
+     * ya están en orden no se comparan ni se mezclan, solo se copian. Cada escritura
+     * cuenta como movimiento; swaps no se usa.
+     */
+    public static <T extends Comparable<T>> void sortConBuffer(Lista<T> lista, Metricas m) {
+        T[] a = CopiaLista.copiar(lista);
+        sortConBuffer(a, Comparator.naturalOrder(), m);
+        CopiaLista.escribir(lista, a);
+    }
+
+    public static <T> void sortConBuffer(T[] a, Comparator<? super T> cmp, Metricas m) {
+        long t0 = System.currentTimeMillis();
+        T[] buffer = a.clone();
+        mergeSort(buffer, a, 0, a.length, cmp, m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+    }
+
+    // Deja ordenado destino[lo, hi); origen y destino empiezan con el mismo contenido en el tramo
+    private static <T> void mergeSort(T[] origen, T[] destino, int lo, int hi, Comparator<? super T> cmp, Metricas m) {
+        if (hi - lo < 2) return;
+        int mid = (lo + hi) >>> 1;
+        mergeSort(destino, origen, lo, mid, cmp, m);
+        mergeSort(destino, origen, mid, hi, cmp, m);
+
+        m.comparaciones++;
+        if (cmp.compare(origen[mid - 1], origen[mid]) <= 0) {
+            System.arraycopy(origen, lo, destino, lo, hi - lo);
+            m.movimientos += hi - lo;
+            return;
+        }
+        int i = lo, j = mid;
+        for (int k = lo; k < hi; k++) {
+            if (j >= hi) {
+                destino[k] = origen[i++];
+            } else if (i >= mid) {
+                destino[k] = origen[j++];
+            } else {
+                m.comparaciones++;
+                destino[k] = cmp.compare(origen[i], origen[j]) <= 0 ? origen[i++] : origen[j++];
+            }
+        }
+        m.movimientos += hi - lo;
+    }
+
+    /**
+     * Ordena una lista de int sin boxing: una copia a int[] y un único buffer auxiliar.
+     */
+    public static void sort(IntLista lista, Metricas m) {
+        int[] a = lista.toArray();
+        long t0 = System.currentTimeMillis();
+        mergeSort(a, new int[a.length], 0, a.length - 1, m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+        lista.setAll(a);
+    }
+
+    /**
+     * Ordena una lista de double sin boxing: una copia a double[] y un único buffer auxiliar.
+     */
+    public static void sort(DoubleLista lista, Metricas m) {
+        double[] a = lista.toArray();
+        long t0 = System.currentTimeMillis();
+        mergeSort(a, new double[a.length], 0, a.length - 1, m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+        lista.setAll(a);
+    }
+
+    private static void mergeSort(int[] a, int[] temp, int izq, int der, Metricas m) {
+        if (izq >= der) return;
+        int mid = (izq + der) >>> 1;
+        mergeSort(a, temp, izq, mid, m);
+        mergeSort(a, temp, mid + 1, der, m);
+        System.arraycopy(a, izq, temp, izq, der - izq + 1);
+        int i = izq, j = mid + 1, k = izq;
+        while (i <= mid && j <= der) {
+            m.comparaciones++;
+            if (temp[i] <= temp[j]) {
+                a[k++] = temp[i++];
+            } else {
+                a[k++] = temp[j++];
+                m.swaps++;
+            }
+        }
+        while (i <= mid) a[k++] = temp[i++];
+        while (j <= der) a[k++] = temp[j++];
+        m.swaps += der - izq + 1;
+    }
+
+    private static void mergeSort(double[] a, double[] temp, int izq, int der, Metricas m) {
+        if (izq >= der) return;
+        int mid = (izq + der) >>> 1;
+        mergeSort(a, temp, izq, mid, m);
+        mergeSort(a, temp, mid + 1, der, m);
+        System.arraycopy(a, izq, temp, izq, der - izq + 1);
+        int i = izq, j = mid + 1, k = izq;
+        while (i <= mid && j <= der) {
+            m.comparaciones++;
+            if (Double.compare(temp[i], temp[j]) <= 0) {
+                a[k++] = temp[i++];
+            } else {
+                a[k++] = temp[j++];
+                m.swaps++;
+            }
+        }
+        while (i <= mid) a[k++] = temp[i++];
+        while (j <= der) a[k++] = temp[j++];
+        m.swaps += der - izq + 1;
     }
 
     private static <T extends Comparable<T>> void mergeSort(List<T> a, int izq, int der, Metricas m) {
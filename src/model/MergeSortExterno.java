@@ -0,0 +1,397 @@
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Merge sort externo para archivos de {@link ArchivoPoliticos} que no caben en el heap.
+ * Ordena por dinero a robar, como {@link Politico#compareTo}, y es estable.
+ * <ol>
+ *   <li>Lee la entrada en bloques que caben en la memoria indicada, ordena cada bloque con
+ *   {@link RadixSort#permutacion(double[], int, RadixSort.Metricas)} y lo vuelca a un tramo
+ *   temporal en filas de {@link #REGISTRO} bytes.</li>
+ *   <li>Mezcla los tramos con un {@link ArbolDePerdedores}. Si hay más tramos de los que caben
+ *   con un buffer de al menos {@link #BUFFER_MIN} cada uno, hace pasadas intermedias sobre
+ *   grupos de tramos consecutivos hasta que la última mezcla escribe la salida.</li>
+ * </ol>
+ * Todo el acceso a disco es secuencial y con buffers directos de NIO: cada tramo se lee de
+ * principio a fin y cada columna de la salida se escribe en orden. Los tramos temporales se
+ * borran al terminar, también si hubo un error.
+ */
+public final class MergeSortExterno {
+    public static class Metricas {
+        public long comparaciones = 0;
+        public long tramos = 0;          // tramos ordenados volcados a disco
+        public long pasadas = 0;         // pasadas de mezcla, contando la final
+        public long bytesLeidos = 0;
+        public long bytesEscritos = 0;
+        public long tiempoMillis = 0;
+    }
+
+    /** Bytes de un registro en los tramos: id, día epoch y monto. */
+    public static final int REGISTRO = Integer.BYTES + Integer.BYTES + Double.BYTES;
+    public static final int BUFFER_MIN = 64 << 10;
+    public static final int BUFFER_MAX = 4 << 20;
+    public static final long MEMORIA_MIN = 1 << 20;
+
+    // Por registro del bloque: las tres columnas (16) más las claves e índices de la permutación (24)
+    private static final int BYTES_POR_REGISTRO = 40;
+    private static final int MAX_BLOQUE = Integer.MAX_VALUE - 8;
+    // Limita los archivos abiertos a la vez; con más tramos se hace otra pasada
+    private static final int MAX_FAN_IN = 512;
+
+    private final long memoria;
+    private final Path dirTemporal;
+
+    /** Usa un cuarto del heap máximo y el directorio temporal del sistema. */
+    public MergeSortExterno() {
+        this(Runtime.getRuntime().maxMemory() / 4, null);
+    }
+
+    /**
+     * @param memoria     bytes de heap que puede ocupar el ordenamiento (bloques y buffers)
+     * @param dirTemporal dónde crear los tramos; si es null, el directorio temporal del sistema
+     */
+    public MergeSortExterno(long memoria, Path dirTemporal) {
+        if (memoria < MEMORIA_MIN) {
+            throw new IllegalArgumentException("Se necesita al menos " + MEMORIA_MIN + " bytes de memoria: " + memoria);
+        }
+        this.memoria = memoria;
+        this.dirTemporal = dirTemporal;
+    }
+
+    public long getMemoria() {
+        return memoria;
+    }
+
+    /**
+     * Ordena {@code entrada} y escribe el resultado en {@code salida}, que no puede ser el mismo
+     * archivo: la salida se trunca mientras la entrada todavía se está leyendo.
+     *
+     * @throws IllegalArgumentException si {@code entrada} y {@code salida} son el mismo archivo
+     */
+    public void ordenar(Path entrada, Path salida, Metricas m) throws IOException {
+        if (Files.exists(salida) && Files.isSameFile(entrada, salida)) {
+            throw new IllegalArgumentException("La entrada y la salida son el mismo archivo: " + salida);
+        }
+        long t0 = System.currentTimeMillis();
+        List<Tramo> tramos = new ArrayList<>();
+        try {
+            ArchivoPoliticos.Cabecera c;
+            try (FileChannel in = FileChannel.open(entrada, StandardOpenOption.READ)) {
+                c = ArchivoPoliticos.Cabecera.leer(in, entrada);
+                if (c.n <= registrosPorBloque()) {
+                    // Cabe entero: se ordena en memoria y se escribe sin tramos
+                    try (Salida out = new Salida(salida, c.n, buffer(3), m)) {
+                        formarTramo(in, c, 0, (int) c.n, bufferDeLectura(), out, m);
+                    }
+                    return;
+                }
+                formarTramos(in, c, tramos, m);
+            }
+            int fanIn = fanIn();
+            while (tramos.size() > fanIn) {
+                pasada(tramos, fanIn, m);
+            }
+            try (Salida out = new Salida(salida, c.n, buffer(tramos.size() + 3), m)) {
+                mezclar(tramos, out, buffer(tramos.size() + 3), m);
+            }
+            m.pasadas++;
+        } finally {
+            for (Tramo t : tramos) Files.deleteIfExists(t.archivo);
+            m.tiempoMillis = System.currentTimeMillis() - t0;
+        }
+    }
+
+    private void formarTramos(FileChannel in, ArchivoPoliticos.Cabecera c, List<Tramo> tramos, Metricas m) throws IOException {
+        int bloque = registrosPorBloque();
+        ByteBuffer lectura = bufferDeLectura();
+        for (long desde = 0; desde < c.n; desde += bloque) {
+            int cuantos = (int) Math.min(bloque, c.n - desde);
+            Tramo t = new Tramo(nuevoTemporal(), cuantos);
+            tramos.add(t);
+            try (EscritorTramo out = new EscritorTramo(t.archivo, buffer(2), m)) {
+                formarTramo(in, c, desde, cuantos, lectura, out, m);
+            }
+            m.tramos++;
+        }
+    }
+
+    // Lee el bloque [desde, desde + cuantos) de las tres columnas, lo ordena y lo escribe
+    private static void formarTramo(FileChannel in, ArchivoPoliticos.Cabecera c, long desde, int cuantos,
+                                    ByteBuffer buffer, Destino out, Metricas m) throws IOException {
+        int[] ids = new int[cuantos];
+        int[] dias = new int[cuantos];
+        double[] montos = new double[cuantos];
+        leerColumna(in, c.posIds + desde * Integer.BYTES, buffer, ids, null, m);
+        leerColumna(in, c.posDias + desde * Integer.BYTES, buffer, dias, null, m);
+        leerColumna(in, c.posMontos + desde * Double.BYTES, buffer, null, montos, m);
+
+        int[] orden = RadixSort.permutacion(montos, RadixSort.BITS_POR_DEFECTO, new RadixSort.Metricas());
+        for (int i : orden) out.escribir(ids[i], dias[i], montos[i]);
+    }
+
+    // Llena ints o doubles (el que no sea null) con lecturas secuenciales desde posicion
+    private static void leerColumna(FileChannel in, long posicion, ByteBuffer buffer, int[] ints, double[] doubles,
+                                    Metricas m) throws IOException {
+        int ancho = ints != null ? Integer.BYTES : Double.BYTES;
+        int total = ints != null ? ints.length : doubles.length;
+        int hechos = 0;
+        while (hechos < total) {
+            buffer.clear();
+            buffer.limit(Math.min(buffer.capacity() / ancho, total - hechos) * ancho);
+            while (buffer.hasRemaining()) {
+                if (in.read(buffer, posicion + buffer.position()) < 0) {
+                    throw new IOException("Fin de archivo inesperado en la posición " + (posicion + buffer.position()));
+                }
+            }
+            buffer.flip();
+            int cuantos = buffer.remaining() / ancho;
+            if (ints != null) buffer.asIntBuffer().get(ints, hechos, cuantos);
+            else buffer.asDoubleBuffer().get(doubles, hechos, cuantos);
+            hechos += cuantos;
+            posicion += buffer.remaining();
+            m.bytesLeidos += buffer.remaining();
+        }
+    }
+
+    // Mezcla grupos de tramos consecutivos; respetar el orden de los grupos mantiene la estabilidad
+    private void pasada(List<Tramo> tramos, int fanIn, Metricas m) throws IOException {
+        List<Tramo> siguientes = new ArrayList<>();
+        try {
+            for (int i = 0; i < tramos.size(); i += fanIn) {
+                List<Tramo> grupo = tramos.subList(i, Math.min(i + fanIn, tramos.size()));
+                long registros = 0;
+                for (Tramo t : grupo) registros += t.registros;
+                Tramo mezcla = new Tramo(nuevoTemporal(), registros);
+                siguientes.add(mezcla);
+                try (EscritorTramo out = new EscritorTramo(mezcla.archivo, buffer(grupo.size() + 1), m)) {
+                    mezclar(grupo, out, buffer(grupo.size() + 1), m);
+                }
+                for (Tramo t : grupo) Files.deleteIfExists(t.archivo);
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Tramo t : siguientes) Files.deleteIfExists(t.archivo);
+            throw e;
+        }
+        tramos.clear();
+        tramos.addAll(siguientes);
+        m.pasadas++;
+    }
+
+    private static void mezclar(List<Tramo> tramos, Destino out, int tamBuffer, Metricas m) throws IOException {
+        int k = tramos.size();
+        LectorTramo[] lectores = new LectorTramo[k];
+        try {
+            for (int f = 0; f < k; f++) {
+                lectores[f] = new LectorTramo(tramos.get(f), tamBuffer, m);
+                lectores[f].avanzar();
+            }
+            ArbolDePerdedores arbol = new ArbolDePerdedores(k, new ArbolDePerdedores.Fuentes() {
+                @Override
+                public boolean agotada(int fuente) {
+                    return lectores[fuente].agotado;
+                }
+
+                @Override
+                public int comparar(int a, int b) {
+                    m.comparaciones++;
+                    return Double.compare(lectores[a].monto, lectores[b].monto);
+                }
+            });
+            while (true) {
+                LectorTramo l = lectores[arbol.ganador()];
+                if (l.agotado) break;
+                out.escribir(l.id, l.dia, l.monto);
+                l.avanzar();
+                arbol.reajustar();
+            }
+        } finally {
+            for (LectorTramo l : lectores) {
+                if (l != null) l.canal.close();
+            }
+        }
+    }
+
+    private int registrosPorBloque() {
+        long registros = (memoria - 3L * buffer(3)) / BYTES_POR_REGISTRO;
+        return (int) Math.max(1, Math.min(registros, MAX_BLOQUE));
+    }
+
+    // Tramos que se pueden abrir a la vez con buffers de BUFFER_MIN, dejando sitio para la salida
+    private int fanIn() {
+        return (int) Math.max(2, Math.min(MAX_FAN_IN, memoria / BUFFER_MIN - 3));
+    }
+
+    private ByteBuffer bufferDeLectura() {
+        return ByteBuffer.allocateDirect(buffer(3)).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    // Reparte la memoria entre buffers abiertos a la vez, en múltiplos de REGISTRO
+    private int buffer(int abiertos) {
+        long tam = Math.max(BUFFER_MIN, Math.min(BUFFER_MAX, memoria / (2L * abiertos)));
+        return (int) (tam - tam % REGISTRO);
+    }
+
+    private Path nuevoTemporal() throws IOException {
+        return dirTemporal == null
+                ? Files.createTempFile("tramo", ".bin")
+                : Files.createTempFile(dirTemporal, "tramo", ".bin");
+    }
+
+    private static final class Tramo {
+        final Path archivo;
+        final long registros;
+
+        Tramo(Path archivo, long registros) {
+            this.archivo = archivo;
+            this.registros = registros;
+        }
+    }
+
+    private interface Destino {
+        void escribir(int id, int dia, double monto) throws IOException;
+    }
+
+    // Filas de REGISTRO bytes escritas de principio a fin
+    private static final class EscritorTramo implements Destino, AutoCloseable {
+        private final FileChannel canal;
+        private final ByteBuffer buffer;
+        private final Metricas m;
+
+        EscritorTramo(Path archivo, int tamBuffer, Metricas m) throws IOException {
+            this.canal = FileChannel.open(archivo, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.buffer = ByteBuffer.allocateDirect(tamBuffer).order(ByteOrder.LITTLE_ENDIAN);
+            this.m = m;
+        }
+
+        @Override
+        public void escribir(int id, int dia, double monto) throws IOException {
+            if (buffer.remaining() < REGISTRO) vaciar();
+            buffer.putInt(id).putInt(dia).putDouble(monto);
+        }
+
+        private void vaciar() throws IOException {
+            buffer.flip();
+            m.bytesEscritos += buffer.remaining();
+            while (buffer.hasRemaining()) canal.write(buffer);
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                vaciar();
+            } finally {
+                canal.close();
+            }
+        }
+    }
+
+    private static final class LectorTramo {
+        final FileChannel canal;
+        final ByteBuffer buffer;
+        final Metricas m;
+        long restantes;
+        boolean agotado;
+        int id;
+        int dia;
+        double monto;
+
+        LectorTramo(Tramo t, int tamBuffer, Metricas m) throws IOException {
+            this.canal = FileChannel.open(t.archivo, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(tamBuffer).order(ByteOrder.LITTLE_ENDIAN);
+            this.buffer.limit(0);
+            this.m = m;
+            this.restantes = t.registros;
+        }
+
+        void avanzar() throws IOException {
+            if (restantes == 0) {
+                agotado = true;
+                return;
+            }
+            if (buffer.remaining() < REGISTRO) {
+                buffer.compact();
+                while (buffer.hasRemaining() && canal.read(buffer) >= 0) {
+                    // Llenar el buffer entero para leer en bloques grandes
+                }
+                buffer.flip();
+                m.bytesLeidos += buffer.remaining();
+                if (buffer.remaining() < REGISTRO) {
+                    throw new IOException("Tramo temporal truncado: faltan " + restantes + " registros");
+                }
+            }
+            id = buffer.getInt();
+            dia = buffer.getInt();
+            monto = buffer.getDouble();
+            restantes--;
+        }
+    }
+
+    // Las tres columnas de ArchivoPoliticos, cada una escrita en orden desde su posición
+    private static final class Salida implements Destino, AutoCloseable {
+        private final FileChannel canal;
+        private final ByteBuffer ids;
+        private final ByteBuffer dias;
+        private final ByteBuffer montos;
+        private final Metricas m;
+        private long posIds;
+        private long posDias;
+        private long posMontos;
+
+        Salida(Path archivo, long n, int tamBuffer, Metricas m) throws IOException {
+            this.canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+            ArchivoPoliticos.Cabecera c = ArchivoPoliticos.Cabecera.para(n);
+            c.escribir(canal);
+            // Los montos son el doble de anchos: mismo número de registros por vaciado en las tres
+            int filas = Math.max(1, tamBuffer / 2 / Double.BYTES);
+            this.ids = ByteBuffer.allocateDirect(filas * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            this.dias = ByteBuffer.allocateDirect(filas * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            this.montos = ByteBuffer.allocateDirect(filas * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            this.m = m;
+            this.posIds = c.posIds;
+            this.posDias = c.posDias;
+            this.posMontos = c.posMontos;
+        }
+
+        @Override
+        public void escribir(int id, int dia, double monto) throws IOException {
+            if (!montos.hasRemaining()) vaciar();
+            ids.putInt(id);
+            dias.putInt(dia);
+            montos.putDouble(monto);
+        }
+
+        private void vaciar() throws IOException {
+            posIds = vaciar(ids, posIds);
+            posDias = vaciar(dias, posDias);
+            posMontos = vaciar(montos, posMontos);
+        }
+
+        private long vaciar(ByteBuffer buffer, long posicion) throws IOException {
+            buffer.flip();
+            m.bytesEscritos += buffer.remaining();
+            while (buffer.hasRemaining()) posicion += canal.write(buffer, posicion);
+            buffer.clear();
+            return posicion;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                vaciar();
+            } finally {
+                canal.close();
+            }
+        }
+    }
+}
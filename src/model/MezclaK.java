@@ -0,0 +1,121 @@
+package model;
+
+import model.estructuras.Lista;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Mezcla k fuentes ya ordenadas en un solo recorrido ordenado, con un {@link ArbolDePerdedores}:
+ * ⌈log2 k⌉ comparaciones por elemento. Es perezosa: solo guarda el elemento actual de cada
+ * fuente y avanza una fuente por cada {@code next()}, así que nunca copia las entradas.
+ * Es estable: con elementos iguales sale primero el de la fuente anterior en la lista.
+ * <p>
+ * Las fuentes no deben modificarse mientras se recorre la mezcla. Si alguna no está ordenada
+ * el resultado tampoco lo estará, pero no se pierde ningún elemento.
+ */
+public final class MezclaK {
+    public static class Metricas {
+        public long comparaciones = 0;
+        public long elementos = 0;   // elementos entregados hasta ahora
+    }
+
+    private MezclaK() {
+    }
+
+    public static <T> Iterator<T> mezclar(List<? extends Iterator<? extends T>> fuentes, Comparator<? super T> cmp,
+                                          Metricas m) {
+        return new Recorrido<>(fuentes, cmp, m);
+    }
+
+    public static <T extends Comparable<? super T>> Iterator<T> mezclar(List<? extends Iterator<? extends T>> fuentes,
+                                                                       Metricas m) {
+        return mezclar(fuentes, Comparator.naturalOrder(), m);
+    }
+
+    /** Recorre cada lista con su cursor, sin pasar por {@code get(i)}. */
+    public static <T> Iterator<T> mezclarListas(List<? extends Lista<? extends T>> listas, Comparator<? super T> cmp,
+                                                Metricas m) {
+        List<Iterator<? extends T>> fuentes = new ArrayList<>(listas.size());
+        for (Lista<? extends T> lista : listas) fuentes.add(lista.iterator());
+        return mezclar(fuentes, cmp, m);
+    }
+
+    public static <T> Iterator<T> mezclarArreglos(List<? extends T[]> arreglos, Comparator<? super T> cmp,
+                                                  Metricas m) {
+        List<Iterator<? extends T>> fuentes = new ArrayList<>(arreglos.size());
+        for (T[] arreglo : arreglos) fuentes.add(Arrays.asList(arreglo).iterator());
+        return mezclar(fuentes, cmp, m);
+    }
+
+    /** Agrega la mezcla completa al final de {@code destino}. */
+    public static <T> void mezclarEn(Lista<T> destino, List<? extends Iterator<? extends T>> fuentes,
+                                     Comparator<? super T> cmp, Metricas m) {
+        Iterator<T> it = mezclar(fuentes, cmp, m);
+        while (it.hasNext()) destino.add(it.next());
+    }
+
+    private static final class Recorrido<T> implements Iterator<T>, ArbolDePerdedores.Fuentes {
+        private final Iterator<? extends T>[] fuentes;
+        private final Object[] actuales;
+        private final boolean[] agotadas;
+        private final Comparator<? super T> cmp;
+        private final Metricas m;
+        private final ArbolDePerdedores arbol;
+
+        @SuppressWarnings("unchecked")
+        Recorrido(List<? extends Iterator<? extends T>> fuentes, Comparator<? super T> cmp, Metricas m) {
+            int k = fuentes.size();
+            this.fuentes = (Iterator<? extends T>[]) fuentes.toArray(new Iterator<?>[0]);
+            this.actuales = new Object[k];
+            this.agotadas = new boolean[k];
+            this.cmp = cmp;
+            this.m = m;
+            for (int f = 0; f < k; f++) avanzar(f);
+            // Sin fuentes no hay árbol: hasNext() responde false
+            this.arbol = k == 0 ? null : new ArbolDePerdedores(k, this);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return arbol != null && !agotadas[arbol.ganador()];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            int g = arbol.ganador();
+            T dato = (T) actuales[g];
+            avanzar(g);
+            arbol.reajustar();
+            m.elementos++;
+            return dato;
+        }
+
+        private void avanzar(int f) {
+            if (fuentes[f].hasNext()) {
+                actuales[f] = fuentes[f].next();
+            } else {
+                actuales[f] = null;
+                agotadas[f] = true;
+            }
+        }
+
+        @Override
+        public boolean agotada(int fuente) {
+            return agotadas[fuente];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public int comparar(int a, int b) {
+            m.comparaciones++;
+            return cmp.compare((T) actuales[a], (T) actuales[b]);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package model;
+
+import model.estructuras.*;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * MergeSort paralelo sobre un {@link ForkJoinPool}. Los tramos de hasta {@code corte}
+ * elementos se ordenan en un solo hilo; por encima se dividen en tareas, y las mezclas
+ * grandes también se reparten partiendo por búsqueda binaria.
+ * Usa un único buffer auxiliar por ordenamiento, alternando origen y destino entre niveles.
+ * Cada tarea devuelve sus propios contadores y se suman al unirse, sin contención.
+ */
+public class ParallelMergeSort {
+    public static final int CORTE_POR_DEFECTO = 1 << 13;
+
+    private final ForkJoinPool pool;
+    private final int corte;
+
+    public ParallelMergeSort() {
+        this(ForkJoinPool.commonPool(), CORTE_POR_DEFECTO);
+    }
+
+    public ParallelMergeSort(ForkJoinPool pool, int corte) {
+        if (corte < 2) {
+            throw new IllegalArgumentException("El corte secuencial debe ser al menos 2: " + corte);
+        }
+        this.pool = pool;
+        this.corte = corte;
+    }
+
+    /**
+     * Ordena la lista copiándola a un arreglo y reescribiendo los datos en los mismos nodos.
+     */
+    public <T extends Comparable<T>> void sort(Lista<T> lista, MergeSort.Metricas m) {
+        T[] a = CopiaLista.copiar(lista);
+        sort(a, Comparator.naturalOrder(), m);
+        CopiaLista.escribir(lista, a);
+    }
+
+    public <T> void sort(T[] a, Comparator<? super T> cmp, MergeSort.Metricas m) {
+        long t0 = System.currentTimeMillis();
+        if (a.length > 1) {
+            T[] buffer = a.clone();
+            Conteo c = pool.invoke(new Ordenar<>(a, buffer, 0, a.length, true, cmp));
+            m.comparaciones += c.comparaciones;
+            m.swaps += c.swaps;
+        }
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+    }
+
+    private static final class Conteo {
+        long comparaciones;
+        long swaps;
+
+        Conteo sumar(Conteo otro) {
+            comparaciones += otro.comparaciones;
+            swaps += otro.swaps;
+            return this;
+        }
+    }
+
+    // Ordena [lo, hi) dejando el resultado en a (enA) o en b; el otro arreglo sirve de auxiliar
+    private final class Ordenar<T> extends RecursiveTask<Conteo> {
+        private final T[] a, b;
+        private final int lo, hi;
+        private final boolean enA;
+        private final Comparator<? super T> cmp;
+
+        Ordenar(T[] a, T[] b, int lo, int hi, boolean enA, Comparator<? super T> cmp) {
+            this.a = a;
+            this.b = b;
+            this.lo = lo;
+            this.hi = hi;
+            this.enA = enA;
+            this.cmp = cmp;
+        }
+
+        @Override
+        protected Conteo compute() {
+            Conteo c = new Conteo();
+            if (hi - lo <= corte) {
+                secuencial(lo, hi, c);
+                if (!enA) System.arraycopy(a, lo, b, lo, hi - lo);
+                return c;
+            }
+            int mid = (lo + hi) >>> 1;
+            Ordenar<T> izq = new Ordenar<>(a, b, lo, mid, !enA, cmp);
+            Ordenar<T> der = new Ordenar<>(a, b, mid, hi, !enA, cmp);
+            izq.fork();
+            c.sumar(der.compute()).sumar(izq.join());
+
+            T[] origen = enA ? b : a;
+            T[] destino = enA ? a : b;
+            return c.sumar(new Mezclar<>(origen, lo, mid, mid, hi, destino, lo, cmp).compute());
+        }
+
+        private void secuencial(int izq, int der, Conteo c) {
+            if (der - izq < 2) return;
+            int mid = (izq + der) >>> 1;
+            secuencial(izq, mid, c);
+            secuencial(mid, der, c);
+            System.arraycopy(a, izq, b, izq, der - izq);
+            mezclar(b, izq, mid, mid, der, a, izq, cmp, c);
+        }
+    }
+
+    // Mezcla origen[lo1, hi1) con origen[lo2, hi2) en destino a partir de pos
+    private final class Mezclar<T> extends RecursiveTask<Conteo> {
+        private final T[] origen, destino;
+        private final int lo1, hi1, lo2, hi2, pos;
+        private final Comparator<? super T> cmp;
+
+        Mezclar(T[] origen, int lo1, int hi1, int lo2, int hi2, T[] destino, int pos, Comparator<? super T> cmp) {
+            this.origen = origen;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.destino = destino;
+            this.pos = pos;
+            this.cmp = cmp;
+        }
+
+        @Override
+        protected Conteo compute() {
+            Conteo c = new Conteo();
+            int n1 = hi1 - lo1, n2 = hi2 - lo2;
+            if (n1 + n2 <= corte) {
+                mezclar(origen, lo1, hi1, lo2, hi2, destino, pos, cmp, c);
+                return c;
+            }
+            // Se parte el tramo más largo por la mitad; los empates quedan del lado izquierdo
+            int m1, m2;
+            if (n1 >= n2) {
+                m1 = (lo1 + hi1) >>> 1;
+                m2 = primeroNoMenor(origen[m1], lo2, hi2, c);
+            } else {
+                m2 = (lo2 + hi2) >>> 1;
+                m1 = primeroMayor(origen[m2], lo1, hi1, c);
+            }
+            Mezclar<T> izq = new Mezclar<>(origen, lo1, m1, lo2, m2, destino, pos, cmp);
+            Mezclar<T> der = new Mezclar<>(origen, m1, hi1, m2, hi2, destino, pos + (m1 - lo1) + (m2 - lo2), cmp);
+            izq.fork();
+            return c.sumar(der.compute()).sumar(izq.join());
+        }
+
+        private int primeroNoMenor(T clave, int lo, int hi, Conteo c) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                c.comparaciones++;
+                if (cmp.compare(origen[mid], clave) < 0) lo = mid + 1; else hi = mid;
+            }
+            return lo;
+        }
+
+        private int primeroMayor(T clave, int lo, int hi, Conteo c) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                c.comparaciones++;
+                if (cmp.compare(origen[mid], clave) <= 0) lo = mid + 1; else hi = mid;
+            }
+            return lo;
+        }
+    }
+
+    private static <T> void mezclar(T[] origen, int lo1, int hi1, int lo2, int hi2,
+                                    T[] destino, int pos, Comparator<? super T> cmp, Conteo c) {
+        int i = lo1, j = lo2, k = pos;
+        while (i < hi1 && j < hi2) {
+            c.comparaciones++;
+            if (cmp.compare(origen[i], origen[j]) <= 0) {
+                destino[k++] = origen[i++];
+            } else {
+                destino[k++] = origen[j++];
+                c.swaps++;
+            }
+        }
+        System.arraycopy(origen, i, destino, k, hi1 - i);
+        System.arraycopy(origen, j, destino, k + hi1 - i, hi2 - j);
+        c.swaps += (hi1 - lo1) + (hi2 - lo2);
+    }
+}
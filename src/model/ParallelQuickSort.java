@@ -0,0 +1,141 @@
+package model;
+
+import model.estructuras.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * QuickSort paralelo sobre un {@link ForkJoinPool}: cada partición por encima del umbral
+ * se publica como tarea para que otros hilos la roben. Usa el mismo pivote y la misma
+ * partición de tres vías que {@link QuickSort#introSort(int[], QuickSort.Metricas)}, y por
+ * debajo del umbral termina con ese introsort secuencial.
+ * Cada tarea cuenta en variables propias y las vuelca a un {@link LongAdder} al terminar.
+ * El tamaño del pool se elige al crearlo, por ejemplo {@code new ForkJoinPool(8)}.
+ */
+public class ParallelQuickSort {
+    public static final int UMBRAL_POR_DEFECTO = 1 << 13;
+
+    private final ForkJoinPool pool;
+    private final int umbral;
+
+    public ParallelQuickSort() {
+        this(ForkJoinPool.commonPool(), UMBRAL_POR_DEFECTO);
+    }
+
+    public ParallelQuickSort(ForkJoinPool pool, int umbral) {
+        if (umbral <= QuickSort.CORTE_INSERCION) {
+            throw new IllegalArgumentException("El umbral debe superar " + QuickSort.CORTE_INSERCION + ": " + umbral);
+        }
+        this.pool = pool;
+        this.umbral = umbral;
+    }
+
+    public void sort(IntLista lista, QuickSort.Metricas m) {
+        int[] a = lista.toArray();
+        sort(a, m);
+        lista.setAll(a);
+    }
+
+    public void sort(int[] a, QuickSort.Metricas m) {
+        Contadores c = new Contadores();
+        long t0 = System.currentTimeMillis();
+        pool.invoke(new TareaInt(a, 0, a.length, QuickSort.profundidadMaxima(a.length), c));
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+        c.volcar(m);
+    }
+
+    public <T> void sort(T[] a, Comparator<? super T> cmp, QuickSort.Metricas m) {
+        Contadores c = new Contadores();
+        long t0 = System.currentTimeMillis();
+        pool.invoke(new Tarea<>(a, 0, a.length, QuickSort.profundidadMaxima(a.length), cmp, c));
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+        c.volcar(m);
+    }
+
+    private static final class Contadores {
+        final LongAdder comparaciones = new LongAdder();
+        final LongAdder swaps = new LongAdder();
+
+        void sumar(QuickSort.Metricas local) {
+            comparaciones.add(local.comparaciones);
+            swaps.add(local.swaps);
+        }
+
+        void volcar(QuickSort.Metricas m) {
+            m.comparaciones += comparaciones.sum();
+            m.swaps += swaps.sum();
+        }
+    }
+
+    // Ordena a[lo, hi): publica la parte izquierda de cada partición y sigue con la derecha
+    private final class TareaInt extends RecursiveAction {
+        private final int[] a;
+        private final int lo, hi, profundidad;
+        private final Contadores contadores;
+
+        TareaInt(int[] a, int lo, int hi, int profundidad, Contadores contadores) {
+            this.a = a;
+            this.lo = lo;
+            this.hi = hi;
+            this.profundidad = profundidad;
+            this.contadores = contadores;
+        }
+
+        @Override
+        protected void compute() {
+            QuickSort.Metricas local = new QuickSort.Metricas();
+            List<TareaInt> publicadas = new ArrayList<>();
+            int lo = this.lo, hi = this.hi, profundidad = this.profundidad;
+            // Con la profundidad agotada el introsort secuencial pasa directo a heapsort
+            while (hi - lo > umbral && profundidad > 0) {
+                profundidad--;
+                int[] limites = QuickSort.particionTresVias(a, lo, hi, QuickSort.elegirPivote(a, lo, hi, local), local);
+                TareaInt izq = new TareaInt(a, lo, limites[0], profundidad, contadores);
+                izq.fork();
+                publicadas.add(izq);
+                lo = limites[1];
+            }
+            QuickSort.introSort(a, lo, hi, profundidad, local);
+            contadores.sumar(local);
+            for (TareaInt tarea : publicadas) tarea.join();
+        }
+    }
+
+    private final class Tarea<T> extends RecursiveAction {
+        private final T[] a;
+        private final int lo, hi, profundidad;
+        private final Comparator<? super T> cmp;
+        private final Contadores contadores;
+
+        Tarea(T[] a, int lo, int hi, int profundidad, Comparator<? super T> cmp, Contadores contadores) {
+            this.a = a;
+            this.lo = lo;
+            this.hi = hi;
+            this.profundidad = profundidad;
+            this.cmp = cmp;
+            this.contadores = contadores;
+        }
+
+        @Override
+        protected void compute() {
+            QuickSort.Metricas local = new QuickSort.Metricas();
+            List<Tarea<T>> publicadas = new ArrayList<>();
+            int lo = this.lo, hi = this.hi, profundidad = this.profundidad;
+            while (hi - lo > umbral && profundidad > 0) {
+                profundidad--;
+                int[] limites = QuickSort.particionTresVias(a, lo, hi, QuickSort.elegirPivote(a, lo, hi, cmp, local), cmp, local);
+                Tarea<T> izq = new Tarea<>(a, lo, limites[0], profundidad, cmp, contadores);
+                izq.fork();
+                publicadas.add(izq);
+                lo = limites[1];
+            }
+            QuickSort.introSort(a, lo, hi, profundidad, cmp, local);
+            contadores.sumar(local);
+            for (Tarea<T> tarea : publicadas) tarea.join();
+        }
+    }
+}
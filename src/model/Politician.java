@@ -0,0 +1,88 @@
+package model;
+
+/**
+ * Político de los modelos de Insertion y Selection. Solo hay 20 × 20 nombres posibles, así
+ * que cada instancia guarda dos índices de un byte en {@code FIRST_NAMES} y {@code LAST_NAMES}
+ * y el dinero como primitivo; los nombres completos se arman una sola vez, la primera vez que
+ * se muestran, y se comparten entre todas las instancias.
+ */
+public final class Politician {
+
+    // Lista de nombres de políticos corruptos ficticios
+    private static final String[] FIRST_NAMES = {
+            "Corrupto", "Ladino", "Sinvergüenza", "Ratero", "Saqueador",
+            "Robaldo", "Malandro", "Estafador", "Timador", "Tramposo",
+            "Ladrón", "Pillador", "Mangante", "Cleptómano", "Usurpador",
+            "Defraudor", "Embustero", "Trapacero", "Chantajista", "Sobornador"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Roba Todo", "Mata Fuego", "Saca Plata", "Mete Mano",
+            "Come Mucho", "Pide Más", "Agarra Todo", "Lleva Lejos",
+            "Hurta Bien", "Afana Legal", "Birla Fácil", "Sustrae Fino",
+            "Manga Limpio", "Rapiña Libre", "Escamotea Rápido", "Desfalca Pro",
+            "Sisea Experto", "Chorea Master", "Tranza VIP", "Tumba Elite"
+    };
+
+    public static final int FIRST_NAME_COUNT = FIRST_NAMES.length;
+    public static final int LAST_NAME_COUNT = LAST_NAMES.length;
+
+    // Rango de dinero a robar de los políticos aleatorios (entre 10,000 y 1,000,000); los genera GeneradorDatos
+    public static final int MIN_MONEY = 10000;
+    public static final int MAX_MONEY = 1000000;
+
+    private final byte firstName;
+    private final byte lastName;
+    private final int moneyToSteal;
+
+    public Politician(int firstName, int lastName, int moneyToSteal) {
+        if (firstName < 0 || firstName >= FIRST_NAME_COUNT || lastName < 0 || lastName >= LAST_NAME_COUNT) {
+            throw new IllegalArgumentException("Índice de nombre fuera de rango: " + firstName + ", " + lastName);
+        }
+        this.firstName = (byte) firstName;
+        this.lastName = (byte) lastName;
+        this.moneyToSteal = moneyToSteal;
+    }
+
+    public String getName() {
+        return NombresCompletos.TABLA[firstName * LAST_NAME_COUNT + lastName];
+    }
+
+    public String getFirstName() {
+        return FIRST_NAMES[firstName];
+    }
+
+    public String getLastName() {
+        return LAST_NAMES[lastName];
+    }
+
+    public int getFirstNameIndex() {
+        return firstName;
+    }
+
+    public int getLastNameIndex() {
+        return lastName;
+    }
+
+    public int getMoneyToSteal() {
+        return moneyToSteal;
+    }
+
+    @Override
+    public String toString() {
+        return getName() + " ($" + moneyToSteal + ")";
+    }
+
+    // Se carga recién al pedir el primer nombre
+    private static final class NombresCompletos {
+        static final String[] TABLA = new String[FIRST_NAME_COUNT * LAST_NAME_COUNT];
+
+        static {
+            for (int i = 0; i < FIRST_NAME_COUNT; i++) {
+                for (int j = 0; j < LAST_NAME_COUNT; j++) {
+                    TABLA[i * LAST_NAME_COUNT + j] = FIRST_NAMES[i] + " " + LAST_NAMES[j];
+                }
+            }
+        }
+    }
+}
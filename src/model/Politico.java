@@ -14,6 +14,7 @@ public class Politico implements Comparable<Politico> {
         this.dineroARobar = dineroARobar;
     }
 
+    // Sin semilla; para datos repetibles usar GeneradorDatos
     public static Politico aleatorio() {
         String id = "P" + ThreadLocalRandom.current().nextInt(1000, 9999);
         int year = ThreadLocalRandom.current().nextInt(1950, 2000);
@@ -24,6 +25,14 @@ public class Politico implements Comparable<Politico> {
         return new Politico(id, fn, dinero);
     }
 
+    public String getId() {
+        return id;
+    }
+
+    public LocalDate getFechaNacimiento() {
+        return fechaNacimiento;
+    }
+
     public double getDineroARobar() {
         return dineroARobar;
     }
@@ -2,6 +2,7 @@ package model;
 
 import model.estructuras.*;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -20,21 +21,423 @@ public class QuickSort {
     public static <T extends Comparable<T>> void sort(Lista<T> lista, Metricas m) {
         int n = lista.size();
         List<T> aux = new ArrayList<>(n);
-        for (int i = 0; i < n; i++) aux.add(lista.get(i));
+        for (T dato : lista) aux.add(dato);
 
         long t0 = System.currentTimeMillis();
         quickSort(aux, 0, n - 1, m);
         m.tiempoMillis = System.currentTimeMillis() - t0;
 
         lista.clear();
-        for (T item : aux) lista.add(item);
+        lista.addAll(aux);
     }
 
+    /**
+     * Ordena una lista de int sin boxing sobre una copia int[], con el modo introsort.
+     */
+    public static void sort(IntLista lista, Metricas m) {
+        introSort(lista, m);
+    }
+
+    /**
+     * Ordena una lista de double sin boxing sobre una copia double[], con el modo introsort.
+     */
+    public static void sort(DoubleLista lista, Metricas m) {
+        introSort(lista, m);
+    }
+
+    // Tramos de este tamaño o menos se terminan con insertion sort
+    static final int CORTE_INSERCION = 16;
+    // A partir de este tamaño el pivote es la mediana de tres medianas (ninther)
+    static final int UMBRAL_NINTHER = 128;
+
+    /**
+     * Modo introsort: pivote por mediana de tres (ninther en tramos grandes), partición
+     * de tres vías para claves repetidas, insertion sort en tramos pequeños y heapsort
+     * si la profundidad supera 2·log n. Solo recursa sobre la parte más pequeña, así que
+     * la pila queda acotada por log n.
+     */
+    public static <T extends Comparable<T>> void introSort(Lista<T> lista, Metricas m) {
+        T[] a = CopiaLista.copiar(lista);
+        introSort(a, Comparator.naturalOrder(), m);
+        CopiaLista.escribir(lista, a);
+    }
+
+    public static <T> void introSort(T[] a, Comparator<? super T> cmp, Metricas m) {
+        long t0 = System.currentTimeMillis();
+        introSort(a, 0, a.length, profundidadMaxima(a.length), cmp, m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+    }
+
+    public static void introSort(IntLista lista, Metricas m) {
+        int[] a = lista.toArray();
+        introSort(a, m);
+        lista.setAll(a);
+    }
+
+    public static void introSort(int[] a, Metricas m) {
+        long t0 = System.currentTimeMillis();
+        introSort(a, 0, a.length, profundidadMaxima(a.length), m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+    }
+
+    public static void introSort(DoubleLista lista, Metricas m) {
+        double[] a = lista.toArray();
+        introSort(a, m);
+        lista.setAll(a);
+    }
+
+    public static void introSort(double[] a, Metricas m) {
+        long t0 = System.currentTimeMillis();
+        introSort(a, 0, a.length, profundidadMaxima(a.length), m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+    }
+
+    static int profundidadMaxima(int n) {
+        return n < 2 ? 0 : 2 * (31 - Integer.numberOfLeadingZeros(n));
+    }
+
+    // Ordena a[lo, hi)
+    static <T> void introSort(T[] a, int lo, int hi, int profundidad, Comparator<? super T> cmp, Metricas m) {
+        while (hi - lo > CORTE_INSERCION) {
+            if (profundidad-- == 0) {
+                heapSort(a, lo, hi, cmp, m);
+                return;
+            }
+            int[] limites = particionTresVias(a, lo, hi, elegirPivote(a, lo, hi, cmp, m), cmp, m);
+            int lt = limites[0], gt = limites[1];
+            if (lt - lo < hi - gt) {
+                introSort(a, lo, lt, profundidad, cmp, m);
+                lo = gt;
+            } else {
+                introSort(a, gt, hi, profundidad, cmp, m);
+                hi = lt;
+            }
+        }
+        insertionSort(a, lo, hi, cmp, m);
+    }
+
+    static <T> int elegirPivote(T[] a, int lo, int hi, Comparator<? super T> cmp, Metricas m) {
+        int n = hi - lo, mid = lo + n / 2, ultimo = hi - 1;
+        if (n < UMBRAL_NINTHER) return mediana(a, lo, mid, ultimo, cmp, m);
+        int d = n / 8;
+        return mediana(a,
+                mediana(a, lo, lo + d, lo + 2 * d, cmp, m),
+                mediana(a, mid - d, mid, mid + d, cmp, m),
+                mediana(a, ultimo - 2 * d, ultimo - d, ultimo, cmp, m), cmp, m);
+    }
+
+    private static <T> int mediana(T[] a, int i, int j, int k, Comparator<? super T> cmp, Metricas m) {
+        m.comparaciones += 2;
+        if (cmp.compare(a[i], a[j]) < 0) {
+            if (cmp.compare(a[j], a[k]) < 0) return j;
+            m.comparaciones++;
+            return cmp.compare(a[i], a[k]) < 0 ? k : i;
+        }
+        if (cmp.compare(a[j], a[k]) > 0) return j;
+        m.comparaciones++;
+        return cmp.compare(a[i], a[k]) > 0 ? k : i;
+    }
+
+    /**
+     * Partición de bandera holandesa sobre a[lo, hi) con el pivote en {@code indicePivote}.
+     * Devuelve {lt, gt}: a[lo, lt) &lt; pivote, a[lt, gt) == pivote y a[gt, hi) &gt; pivote.
+     */
+    static <T> int[] particionTresVias(T[] a, int lo, int hi, int indicePivote, Comparator<? super T> cmp, Metricas m) {
+        T pivote = a[indicePivote];
+        int lt = lo, i = lo, gt = hi;
+        while (i < gt) {
+            m.comparaciones++;
+            int c = cmp.compare(a[i], pivote);
+            if (c < 0) {
+                if (i != lt) swap(a, lt, i, m);
+                lt++;
+                i++;
+            } else if (c > 0) {
+                swap(a, i, --gt, m);
+            } else {
+                i++;
+            }
+        }
+        return new int[] {lt, gt};
+    }
+
+    static <T> void insertionSort(T[] a, int lo, int hi, Comparator<? super T> cmp, Metricas m) {
+        for (int i = lo + 1; i < hi; i++) {
+            T clave = a[i];
+            int j = i - 1;
+            while (j >= lo) {
+                m.comparaciones++;
+                if (cmp.compare(a[j], clave) <= 0) break;
+                a[j + 1] = a[j];
+                m.swaps++;
+                j--;
+            }
+            a[j + 1] = clave;
+        }
+    }
+
+    private static <T> void heapSort(T[] a, int lo, int hi, Comparator<? super T> cmp, Metricas m) {
+        int n = hi - lo;
+        for (int i = n / 2 - 1; i >= 0; i--) hundir(a, lo, i, n, cmp, m);
+        for (int fin = n - 1; fin > 0; fin--) {
+            swap(a, lo, lo + fin, m);
+            hundir(a, lo, 0, fin, cmp, m);
+        }
+    }
+
+    private static <T> void hundir(T[] a, int lo, int i, int n, Comparator<? super T> cmp, Metricas m) {
+        T dato = a[lo + i];
+        while (2 * i + 1 < n) {
+            int hijo = 2 * i + 1;
+            if (hijo + 1 < n) {
+                m.comparaciones++;
+                if (cmp.compare(a[lo + hijo], a[lo + hijo + 1]) < 0) hijo++;
+            }
+            m.comparaciones++;
+            if (cmp.compare(dato, a[lo + hijo]) >= 0) break;
+            a[lo + i] = a[lo + hijo];
+            m.swaps++;
+            i = hijo;
+        }
+        a[lo + i] = dato;
+    }
+
+    static <T> void swap(T[] a, int i, int j, Metricas m) {
+        T temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+        m.swaps++;
+    }
+
+    static void introSort(int[] a, int lo, int hi, int profundidad, Metricas m) {
+        while (hi - lo > CORTE_INSERCION) {
+            if (profundidad-- == 0) {
+                heapSort(a, lo, hi, m);
+                return;
+            }
+            int[] limites = particionTresVias(a, lo, hi, elegirPivote(a, lo, hi, m), m);
+            int lt = limites[0], gt = limites[1];
+            if (lt - lo < hi - gt) {
+                introSort(a, lo, lt, profundidad, m);
+                lo = gt;
+            } else {
+                introSort(a, gt, hi, profundidad, m);
+                hi = lt;
+            }
+        }
+        insertionSort(a, lo, hi, m);
+    }
+
+    static int elegirPivote(int[] a, int lo, int hi, Metricas m) {
+        int n = hi - lo, mid = lo + n / 2, ultimo = hi - 1;
+        if (n < UMBRAL_NINTHER) return mediana(a, lo, mid, ultimo, m);
+        int d = n / 8;
+        return mediana(a,
+                mediana(a, lo, lo + d, lo + 2 * d, m),
+                mediana(a, mid - d, mid, mid + d, m),
+                mediana(a, ultimo - 2 * d, ultimo - d, ultimo, m), m);
+    }
+
+    private static int mediana(int[] a, int i, int j, int k, Metricas m) {
+        m.comparaciones += 2;
+        if (a[i] < a[j]) {
+            if (a[j] < a[k]) return j;
+            m.comparaciones++;
+            return a[i] < a[k] ? k : i;
+        }
+        if (a[j] > a[k]) return j;
+        m.comparaciones++;
+        return a[i] > a[k] ? k : i;
+    }
+
+    static int[] particionTresVias(int[] a, int lo, int hi, int indicePivote, Metricas m) {
+        int pivote = a[indicePivote];
+        int lt = lo, i = lo, gt = hi;
+        while (i < gt) {
+            m.comparaciones++;
+            int v = a[i];
+            if (v < pivote) {
+                if (i != lt) swap(a, lt, i, m);
+                lt++;
+                i++;
+            } else if (v > pivote) {
+                swap(a, i, --gt, m);
+            } else {
+                i++;
+            }
+        }
+        return new int[] {lt, gt};
+    }
+
+    static void insertionSort(int[] a, int lo, int hi, Metricas m) {
+        for (int i = lo + 1; i < hi; i++) {
+            int clave = a[i];
+            int j = i - 1;
+            while (j >= lo) {
+                m.comparaciones++;
+                if (a[j] <= clave) break;
+                a[j + 1] = a[j];
+                m.swaps++;
+                j--;
+            }
+            a[j + 1] = clave;
+        }
+    }
+
+    private static void heapSort(int[] a, int lo, int hi, Metricas m) {
+        int n = hi - lo;
+        for (int i = n / 2 - 1; i >= 0; i--) hundir(a, lo, i, n, m);
+        for (int fin = n - 1; fin > 0; fin--) {
+            swap(a, lo, lo + fin, m);
+            hundir(a, lo, 0, fin, m);
+        }
+    }
+
+    private static void hundir(int[] a, int lo, int i, int n, Metricas m) {
+        int dato = a[lo + i];
+        while (2 * i + 1 < n) {
+            int hijo = 2 * i + 1;
+            if (hijo + 1 < n) {
+                m.comparaciones++;
+                if (a[lo + hijo] < a[lo + hijo + 1]) hijo++;
+            }
+            m.comparaciones++;
+            if (dato >= a[lo + hijo]) break;
+            a[lo + i] = a[lo + hijo];
+            m.swaps++;
+            i = hijo;
+        }
+        a[lo + i] = dato;
+    }
+
+    static void swap(int[] a, int i, int j, Metricas m) {
+        int temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+        m.swaps++;
+    }
+
+    // Las mismas piezas para double, con el orden de Double.compare
+    static void introSort(double[] a, int lo, int hi, int profundidad, Metricas m) {
+        while (hi - lo > CORTE_INSERCION) {
+            if (profundidad-- == 0) {
+                heapSort(a, lo, hi, m);
+                return;
+            }
+            int[] limites = particionTresVias(a, lo, hi, elegirPivote(a, lo, hi, m), m);
+            int lt = limites[0], gt = limites[1];
+            if (lt - lo < hi - gt) {
+                introSort(a, lo, lt, profundidad, m);
+                lo = gt;
+            } else {
+                introSort(a, gt, hi, profundidad, m);
+                hi = lt;
+            }
+        }
+        insertionSort(a, lo, hi, m);
+    }
+
+    static int elegirPivote(double[] a, int lo, int hi, Metricas m) {
+        int n = hi - lo, mid = lo + n / 2, ultimo = hi - 1;
+        if (n < UMBRAL_NINTHER) return mediana(a, lo, mid, ultimo, m);
+        int d = n / 8;
+        return mediana(a,
+                mediana(a, lo, lo + d, lo + 2 * d, m),
+                mediana(a, mid - d, mid, mid + d, m),
+                mediana(a, ultimo - 2 * d, ultimo - d, ultimo, m), m);
+    }
+
+    private static int mediana(double[] a, int i, int j, int k, Metricas m) {
+        m.comparaciones += 2;
+        if (Double.compare(a[i], a[j]) < 0) {
+            if (Double.compare(a[j], a[k]) < 0) return j;
+            m.comparaciones++;
+            return Double.compare(a[i], a[k]) < 0 ? k : i;
+        }
+        if (Double.compare(a[j], a[k]) > 0) return j;
+        m.comparaciones++;
+        return Double.compare(a[i], a[k]) > 0 ? k : i;
+    }
+
+    static int[] particionTresVias(double[] a, int lo, int hi, int indicePivote, Metricas m) {
+        double pivote = a[indicePivote];
+        int lt = lo, i = lo, gt = hi;
+        while (i < gt) {
+            m.comparaciones++;
+            int c = Double.compare(a[i], pivote);
+            if (c < 0) {
+                if (i != lt) swap(a, lt, i, m);
+                lt++;
+                i++;
+            } else if (c > 0) {
+                swap(a, i, --gt, m);
+            } else {
+                i++;
+            }
+        }
+        return new int[] {lt, gt};
+    }
+
+    static void insertionSort(double[] a, int lo, int hi, Metricas m) {
+        for (int i = lo + 1; i < hi; i++) {
+            double clave = a[i];
+            int j = i - 1;
+            while (j >= lo) {
+                m.comparaciones++;
+                if (Double.compare(a[j], clave) <= 0) break;
+                a[j + 1] = a[j];
+                m.swaps++;
+                j--;
+            }
+            a[j + 1] = clave;
+        }
+    }
+
+    private static void heapSort(double[] a, int lo, int hi, Metricas m) {
+        int n = hi - lo;
+        for (int i = n / 2 - 1; i >= 0; i--) hundir(a, lo, i, n, m);
+        for (int fin = n - 1; fin > 0; fin--) {
+            swap(a, lo, lo + fin, m);
+            hundir(a, lo, 0, fin, m);
+        }
+    }
+
+    private static void hundir(double[] a, int lo, int i, int n, Metricas m) {
+        double dato = a[lo + i];
+        while (2 * i + 1 < n) {
+            int hijo = 2 * i + 1;
+            if (hijo + 1 < n) {
+                m.comparaciones++;
+                if (Double.compare(a[lo + hijo], a[lo + hijo + 1]) < 0) hijo++;
+            }
+            m.comparaciones++;
+            if (Double.compare(dato, a[lo + hijo]) >= 0) break;
+            a[lo + i] = a[lo + hijo];
+            m.swaps++;
+            i = hijo;
+        }
+        a[lo + i] = dato;
+    }
+
+    static void swap(double[] a, int i, int j, Metricas m) {
+        double temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+        m.swaps++;
+    }
+
+    // Recursa sobre la parte más pequeña y sigue en un bucle con la otra: con entradas ordenadas
+    // el pivote del último elemento sigue siendo cuadrático, pero la pila queda en log n
     private static <T extends Comparable<T>> void quickSort(List<T> a, int low, int high, Metricas m) {
-        if (low < high) {
+        while (low < high) {
             int pivotIndex = partition(a, low, high, m);
-            quickSort(a, low, pivotIndex - 1, m);
-            quickSort(a, pivotIndex + 1, high, m);
+            if (pivotIndex - low < high - pivotIndex) {
+                quickSort(a, low, pivotIndex - 1, m);
+                low = pivotIndex + 1;
+            } else {
+                quickSort(a, pivotIndex + 1, high, m);
+                high = pivotIndex - 1;
+            }
         }
     }
 
@@ -0,0 +1,174 @@
+package model;
+
+import model.estructuras.*;
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Radix sort LSD para claves de ancho fijo ({@code int} y {@code double}). No compara:
+ * reparte por dígitos de {@code bits} bits (8 u 11 son los valores habituales), de menor
+ * a mayor peso, y es estable. Con objetos se ordena un arreglo primitivo de claves junto
+ * con un índice de permutación, y los objetos se mueven una sola vez al final.
+ * Las pasadas en las que todas las claves comparten el dígito se saltan.
+ */
+public class RadixSort {
+    public static class Metricas {
+        public long pasadas = 0;
+        public long movimientos = 0;
+        public long tiempoMillis = 0;
+    }
+
+    public static final int BITS_POR_DEFECTO = 11;
+
+    /**
+     * Ordena los políticos por dinero a robar, como {@link Politico#compareTo}.
+     */
+    public static void sort(Lista<Politico> lista, Metricas m) {
+        Politico[] a = CopiaLista.copiar(lista, new Politico[lista.size()]);
+        sortPorDouble(a, Politico::getDineroARobar, BITS_POR_DEFECTO, m);
+        CopiaLista.escribir(lista, a);
+    }
+
+    public static void sort(IntLista lista, Metricas m) {
+        int[] a = lista.toArray();
+        sort(a, BITS_POR_DEFECTO, m);
+        lista.setAll(a);
+    }
+
+    /** Ordena los valores en su lugar, sin índice de permutación. */
+    public static void sort(int[] a, int bits, Metricas m) {
+        validarBits(bits);
+        long t0 = System.currentTimeMillis();
+        int n = a.length;
+        int[] origen = a, destino = new int[n];
+        int mascara = (1 << bits) - 1;
+        int[] cuenta = new int[1 << bits];
+        for (int corrimiento = 0; corrimiento < 32 && n > 1; corrimiento += bits) {
+            Arrays.fill(cuenta, 0);
+            for (int v : origen) cuenta[((v ^ Integer.MIN_VALUE) >>> corrimiento) & mascara]++;
+            if (cuenta[((origen[0] ^ Integer.MIN_VALUE) >>> corrimiento) & mascara] == n) continue;
+            acumular(cuenta);
+            for (int v : origen) destino[cuenta[((v ^ Integer.MIN_VALUE) >>> corrimiento) & mascara]++] = v;
+            int[] t = origen; origen = destino; destino = t;
+            m.pasadas++;
+            m.movimientos += n;
+        }
+        if (origen != a) {
+            System.arraycopy(origen, 0, a, 0, n);
+            m.movimientos += n;
+        }
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+    }
+
+    /** Ordena de forma estable por una clave entera, moviendo cada objeto una vez. */
+    public static <T> void sortPorEntero(T[] a, ToIntFunction<? super T> clave, int bits, Metricas m) {
+        long t0 = System.currentTimeMillis();
+        int[] claves = new int[a.length];
+        for (int i = 0; i < a.length; i++) claves[i] = clave.applyAsInt(a[i]);
+        aplicar(a, permutacion(claves, bits, m), m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+    }
+
+    /** Ordena de forma estable por una clave double, moviendo cada objeto una vez. */
+    public static <T> void sortPorDouble(T[] a, ToDoubleFunction<? super T> clave, int bits, Metricas m) {
+        long t0 = System.currentTimeMillis();
+        double[] claves = new double[a.length];
+        for (int i = 0; i < a.length; i++) claves[i] = clave.applyAsDouble(a[i]);
+        aplicar(a, permutacion(claves, bits, m), m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+    }
+
+    /**
+     * Devuelve p tal que claves[p[0]], claves[p[1]], ... queda en orden ascendente;
+     * los empates conservan el orden original.
+     */
+    public static int[] permutacion(int[] claves, int bits, Metricas m) {
+        validarBits(bits);
+        int n = claves.length;
+        int[] k = new int[n], k2 = new int[n];
+        int[] idx = new int[n], idx2 = new int[n];
+        for (int i = 0; i < n; i++) {
+            k[i] = claves[i] ^ Integer.MIN_VALUE; // el orden con signo pasa a ser orden sin signo
+            idx[i] = i;
+        }
+        int mascara = (1 << bits) - 1;
+        int[] cuenta = new int[1 << bits];
+        for (int corrimiento = 0; corrimiento < 32 && n > 1; corrimiento += bits) {
+            Arrays.fill(cuenta, 0);
+            for (int v : k) cuenta[(v >>> corrimiento) & mascara]++;
+            if (cuenta[(k[0] >>> corrimiento) & mascara] == n) continue;
+            acumular(cuenta);
+            for (int i = 0; i < n; i++) {
+                int pos = cuenta[(k[i] >>> corrimiento) & mascara]++;
+                k2[pos] = k[i];
+                idx2[pos] = idx[i];
+            }
+            int[] t = k; k = k2; k2 = t;
+            t = idx; idx = idx2; idx2 = t;
+            m.pasadas++;
+            m.movimientos += n;
+        }
+        return idx;
+    }
+
+    public static int[] permutacion(double[] claves, int bits, Metricas m) {
+        validarBits(bits);
+        int n = claves.length;
+        long[] k = new long[n], k2 = new long[n];
+        int[] idx = new int[n], idx2 = new int[n];
+        for (int i = 0; i < n; i++) {
+            k[i] = claveOrdenable(claves[i]);
+            idx[i] = i;
+        }
+        long mascara = (1L << bits) - 1;
+        int[] cuenta = new int[1 << bits];
+        for (int corrimiento = 0; corrimiento < 64 && n > 1; corrimiento += bits) {
+            Arrays.fill(cuenta, 0);
+            for (long v : k) cuenta[(int) ((v >>> corrimiento) & mascara)]++;
+            if (cuenta[(int) ((k[0] >>> corrimiento) & mascara)] == n) continue;
+            acumular(cuenta);
+            for (int i = 0; i < n; i++) {
+                int pos = cuenta[(int) ((k[i] >>> corrimiento) & mascara)]++;
+                k2[pos] = k[i];
+                idx2[pos] = idx[i];
+            }
+            long[] t = k; k = k2; k2 = t;
+            int[] ti = idx; idx = idx2; idx2 = ti;
+            m.pasadas++;
+            m.movimientos += n;
+        }
+        return idx;
+    }
+
+    /**
+     * Bits IEEE-754 reordenados para que el orden sin signo coincida con {@link Double#compare}:
+     * en los negativos se invierten todos los bits, en los positivos solo el de signo.
+     */
+    static long claveOrdenable(double d) {
+        long bits = Double.doubleToLongBits(d);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    // Convierte la cuenta por cubeta en la posición inicial de cada cubeta
+    private static void acumular(int[] cuenta) {
+        int suma = 0;
+        for (int i = 0; i < cuenta.length; i++) {
+            int c = cuenta[i];
+            cuenta[i] = suma;
+            suma += c;
+        }
+    }
+
+    private static <T> void aplicar(T[] a, int[] permutacion, Metricas m) {
+        T[] copia = a.clone();
+        for (int i = 0; i < a.length; i++) a[i] = copia[permutacion[i]];
+        m.movimientos += a.length;
+    }
+
+    private static void validarBits(int bits) {
+        if (bits < 1 || bits > 16) {
+            throw new IllegalArgumentException("Bits por pasada fuera de rango (1-16): " + bits);
+        }
+    }
+}
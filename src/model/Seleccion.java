@@ -0,0 +1,434 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Selección del k-ésimo elemento (nth-element) sin ordenar todo, con las mismas piezas que
+ * {@link QuickSort#introSort(int[], QuickSort.Metricas)}: pivote por mediana de tres o ninther
+ * y partición de tres vías. Después de seleccionar k, a[k] es el elemento que iría ahí en el
+ * arreglo ordenado, a su izquierda no hay nada mayor y a su derecha nada menor.
+ * <ul>
+ *   <li>{@code seleccionar}: introselect. Quickselect de tiempo esperado O(n); si varias
+ *   particiones seguidas dejan más de 3/4 del tramo sigue con mediana de medianas de grupos
+ *   de 5 (también para elegir el pivote entre las medianas), así que el peor caso es O(n).
+ *   Una partición mala suelta no cambia de modo: la racha se reinicia con una buena.</li>
+ *   <li>{@code seleccionarVarios}: varios rangos en una sola recursión. Cada partición reparte
+ *   los rangos pendientes entre los dos lados y solo baja por los que tienen alguno.</li>
+ *   <li>{@code floydRivest}: elige el pivote seleccionando primero dentro de una muestra de
+ *   unos n^(2/3) elementos alrededor de la posición esperada, así que casi siempre descarta
+ *   todo salvo un tramo pequeño en una sola partición. Es la mejor opción para percentiles
+ *   extremos (p1, p99). Con la misma racha de particiones malas cae a mediana de medianas,
+ *   como introselect.</li>
+ * </ul>
+ * Los percentiles usan rango más cercano, como {@code cli.SortCli}. Todos los métodos
+ * reordenan el arreglo recibido. Las métricas son las de {@link QuickSort}.
+ */
+public final class Seleccion {
+    // Por encima de este tamaño Floyd–Rivest muestrea antes de partir
+    private static final int MUESTRA_FLOYD_RIVEST = 600;
+    private static final int GRUPO = 5;
+    // Particiones malas seguidas que se toleran antes de pasar a mediana de medianas. Una racha
+    // cuesta unas pocas pasadas sobre el tramo antes de que se achique a 3/4, así que el total
+    // sigue siendo O(n), y un ninther desafortunado con datos aleatorios no activa el modo lento
+    private static final int MALAS_TOLERADAS = 2;
+
+    private Seleccion() {
+    }
+
+    // ----- Objetos -----
+
+    public static <T> T seleccionar(T[] a, int k, Comparator<? super T> cmp, QuickSort.Metricas m) {
+        validarRango(k, a.length);
+        long t0 = System.currentTimeMillis();
+        seleccionar(a, 0, a.length, k, false, cmp, m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+        return a[k];
+    }
+
+    /** Deja cada a[k] en su lugar para todos los k de {@code rangos}, en cualquier orden. */
+    public static <T> void seleccionarVarios(T[] a, int[] rangos, Comparator<? super T> cmp, QuickSort.Metricas m) {
+        int[] ks = rangosOrdenados(rangos, a.length);
+        long t0 = System.currentTimeMillis();
+        seleccionarVarios(a, 0, a.length, ks, 0, ks.length, false, cmp, m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+    }
+
+    public static <T> T floydRivest(T[] a, int k, Comparator<? super T> cmp, QuickSort.Metricas m) {
+        validarRango(k, a.length);
+        long t0 = System.currentTimeMillis();
+        floydRivest(a, 0, a.length, k, cmp, m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+        return a[k];
+    }
+
+    /** Político en el percentil p (0 a 100) de dinero a robar. */
+    public static Politico percentil(Politico[] a, double p, QuickSort.Metricas m) {
+        return floydRivest(a, rango(p, a.length), Comparator.naturalOrder(), m);
+    }
+
+    // Deja a[k] en su lugar dentro de a[lo, hi). Con lineal el pivote es siempre la mediana de medianas
+    static <T> void seleccionar(T[] a, int lo, int hi, int k, boolean lineal, Comparator<? super T> cmp,
+                                QuickSort.Metricas m) {
+        int malas = 0;
+        while (hi - lo > QuickSort.CORTE_INSERCION) {
+            int n = hi - lo;
+            int pivote = lineal ? medianaDeMedianas(a, lo, hi, cmp, m) : QuickSort.elegirPivote(a, lo, hi, cmp, m);
+            int[] limites = QuickSort.particionTresVias(a, lo, hi, pivote, cmp, m);
+            if (k < limites[0]) hi = limites[0];
+            else if (k >= limites[1]) lo = limites[1];
+            else return;
+            if (avanzo(n, hi - lo)) malas = 0;
+            else if (++malas > MALAS_TOLERADAS) lineal = true;
+        }
+        QuickSort.insertionSort(a, lo, hi, cmp, m);
+    }
+
+    // Los rangos pendientes son ks[kLo, kHi), ordenados y todos dentro de [lo, hi)
+    private static <T> void seleccionarVarios(T[] a, int lo, int hi, int[] ks, int kLo, int kHi, boolean lineal,
+                                              Comparator<? super T> cmp, QuickSort.Metricas m) {
+        int malas = 0;
+        while (kLo < kHi) {
+            if (hi - lo <= QuickSort.CORTE_INSERCION) {
+                QuickSort.insertionSort(a, lo, hi, cmp, m);
+                return;
+            }
+            int n = hi - lo;
+            int pivote = lineal ? medianaDeMedianas(a, lo, hi, cmp, m) : QuickSort.elegirPivote(a, lo, hi, cmp, m);
+            int[] limites = QuickSort.particionTresVias(a, lo, hi, pivote, cmp, m);
+            if (avanzo(n, Math.max(limites[0] - lo, hi - limites[1]))) malas = 0;
+            else if (++malas > MALAS_TOLERADAS) lineal = true;
+            int izq = primeroDesde(ks, kLo, kHi, limites[0]);
+            int der = primeroDesde(ks, izq, kHi, limites[1]);
+            // Los de [izq, der) cayeron entre los iguales al pivote: ya están en su lugar
+            seleccionarVarios(a, lo, limites[0], ks, kLo, izq, lineal, cmp, m);
+            lo = limites[1];
+            kLo = der;
+        }
+    }
+
+    private static <T> void floydRivest(T[] a, int lo, int hi, int k, Comparator<? super T> cmp,
+                                        QuickSort.Metricas m) {
+        int malas = 0;
+        while (hi - lo > QuickSort.CORTE_INSERCION) {
+            int n = hi - lo;
+            int pivote;
+            if (n > MUESTRA_FLOYD_RIVEST) {
+                int[] muestra = muestra(lo, hi, k);
+                floydRivest(a, muestra[0], muestra[1], k, cmp, m);
+                pivote = k;
+            } else {
+                pivote = QuickSort.elegirPivote(a, lo, hi, cmp, m);
+            }
+            int[] limites = QuickSort.particionTresVias(a, lo, hi, pivote, cmp, m);
+            if (k < limites[0]) hi = limites[0];
+            else if (k >= limites[1]) lo = limites[1];
+            else return;
+            if (avanzo(n, hi - lo)) {
+                malas = 0;
+            } else if (++malas > MALAS_TOLERADAS) {
+                seleccionar(a, lo, hi, k, true, cmp, m);
+                return;
+            }
+        }
+        QuickSort.insertionSort(a, lo, hi, cmp, m);
+    }
+
+    // Ordena cada grupo de 5, junta sus medianas al principio y devuelve la posición de la mediana de ellas
+    private static <T> int medianaDeMedianas(T[] a, int lo, int hi, Comparator<? super T> cmp, QuickSort.Metricas m) {
+        int medianas = lo;
+        for (int i = lo; i < hi; i += GRUPO) {
+            int fin = Math.min(i + GRUPO, hi);
+            QuickSort.insertionSort(a, i, fin, cmp, m);
+            QuickSort.swap(a, medianas++, i + (fin - i) / 2, m);
+        }
+        int medio = lo + (medianas - lo) / 2;
+        seleccionar(a, lo, medianas, medio, true, cmp, m);
+        return medio;
+    }
+
+    // ----- Montos double -----
+
+    public static double seleccionar(double[] a, int k, QuickSort.Metricas m) {
+        validarRango(k, a.length);
+        long t0 = System.currentTimeMillis();
+        seleccionar(a, 0, a.length, k, false, m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+        return a[k];
+    }
+
+    public static void seleccionarVarios(double[] a, int[] rangos, QuickSort.Metricas m) {
+        int[] ks = rangosOrdenados(rangos, a.length);
+        long t0 = System.currentTimeMillis();
+        seleccionarVarios(a, 0, a.length, ks, 0, ks.length, false, m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+    }
+
+    public static double floydRivest(double[] a, int k, QuickSort.Metricas m) {
+        validarRango(k, a.length);
+        long t0 = System.currentTimeMillis();
+        floydRivest(a, 0, a.length, k, m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+        return a[k];
+    }
+
+    public static double mediana(double[] a, QuickSort.Metricas m) {
+        return seleccionar(a, rango(50, a.length), m);
+    }
+
+    /** Percentil p (0 a 100) por rango más cercano, con Floyd–Rivest. */
+    public static double percentil(double[] a, double p, QuickSort.Metricas m) {
+        return floydRivest(a, rango(p, a.length), m);
+    }
+
+    /** Varios percentiles en una sola pasada; el resultado sigue el orden de {@code ps}. */
+    public static double[] percentiles(double[] a, double[] ps, QuickSort.Metricas m) {
+        int[] rangos = new int[ps.length];
+        for (int i = 0; i < ps.length; i++) rangos[i] = rango(ps[i], a.length);
+        seleccionarVarios(a, rangos, m);
+        double[] valores = new double[ps.length];
+        for (int i = 0; i < ps.length; i++) valores[i] = a[rangos[i]];
+        return valores;
+    }
+
+    static void seleccionar(double[] a, int lo, int hi, int k, boolean lineal, QuickSort.Metricas m) {
+        int malas = 0;
+        while (hi - lo > QuickSort.CORTE_INSERCION) {
+            int n = hi - lo;
+            int pivote = lineal ? medianaDeMedianas(a, lo, hi, m) : QuickSort.elegirPivote(a, lo, hi, m);
+            int[] limites = QuickSort.particionTresVias(a, lo, hi, pivote, m);
+            if (k < limites[0]) hi = limites[0];
+            else if (k >= limites[1]) lo = limites[1];
+            else return;
+            if (avanzo(n, hi - lo)) malas = 0;
+            else if (++malas > MALAS_TOLERADAS) lineal = true;
+        }
+        QuickSort.insertionSort(a, lo, hi, m);
+    }
+
+    private static void seleccionarVarios(double[] a, int lo, int hi, int[] ks, int kLo, int kHi, boolean lineal,
+                                          QuickSort.Metricas m) {
+        int malas = 0;
+        while (kLo < kHi) {
+            if (hi - lo <= QuickSort.CORTE_INSERCION) {
+                QuickSort.insertionSort(a, lo, hi, m);
+                return;
+            }
+            int n = hi - lo;
+            int pivote = lineal ? medianaDeMedianas(a, lo, hi, m) : QuickSort.elegirPivote(a, lo, hi, m);
+            int[] limites = QuickSort.particionTresVias(a, lo, hi, pivote, m);
+            if (avanzo(n, Math.max(limites[0] - lo, hi - limites[1]))) malas = 0;
+            else if (++malas > MALAS_TOLERADAS) lineal = true;
+            int izq = primeroDesde(ks, kLo, kHi, limites[0]);
+            int der = primeroDesde(ks, izq, kHi, limites[1]);
+            seleccionarVarios(a, lo, limites[0], ks, kLo, izq, lineal, m);
+            lo = limites[1];
+            kLo = der;
+        }
+    }
+
+    private static void floydRivest(double[] a, int lo, int hi, int k, QuickSort.Metricas m) {
+        int malas = 0;
+        while (hi - lo > QuickSort.CORTE_INSERCION) {
+            int n = hi - lo;
+            int pivote;
+            if (n > MUESTRA_FLOYD_RIVEST) {
+                int[] muestra = muestra(lo, hi, k);
+                floydRivest(a, muestra[0], muestra[1], k, m);
+                pivote = k;
+            } else {
+                pivote = QuickSort.elegirPivote(a, lo, hi, m);
+            }
+            int[] limites = QuickSort.particionTresVias(a, lo, hi, pivote, m);
+            if (k < limites[0]) hi = limites[0];
+            else if (k >= limites[1]) lo = limites[1];
+            else return;
+            if (avanzo(n, hi - lo)) {
+                malas = 0;
+            } else if (++malas > MALAS_TOLERADAS) {
+                seleccionar(a, lo, hi, k, true, m);
+                return;
+            }
+        }
+        QuickSort.insertionSort(a, lo, hi, m);
+    }
+
+    private static int medianaDeMedianas(double[] a, int lo, int hi, QuickSort.Metricas m) {
+        int medianas = lo;
+        for (int i = lo; i < hi; i += GRUPO) {
+            int fin = Math.min(i + GRUPO, hi);
+            QuickSort.insertionSort(a, i, fin, m);
+            QuickSort.swap(a, medianas++, i + (fin - i) / 2, m);
+        }
+        int medio = lo + (medianas - lo) / 2;
+        seleccionar(a, lo, medianas, medio, true, m);
+        return medio;
+    }
+
+    // ----- Montos int (moneyToSteal de Politician) -----
+
+    public static int seleccionar(int[] a, int k, QuickSort.Metricas m) {
+        validarRango(k, a.length);
+        long t0 = System.currentTimeMillis();
+        seleccionar(a, 0, a.length, k, false, m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+        return a[k];
+    }
+
+    public static void seleccionarVarios(int[] a, int[] rangos, QuickSort.Metricas m) {
+        int[] ks = rangosOrdenados(rangos, a.length);
+        long t0 = System.currentTimeMillis();
+        seleccionarVarios(a, 0, a.length, ks, 0, ks.length, false, m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+    }
+
+    public static int floydRivest(int[] a, int k, QuickSort.Metricas m) {
+        validarRango(k, a.length);
+        long t0 = System.currentTimeMillis();
+        floydRivest(a, 0, a.length, k, m);
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+        return a[k];
+    }
+
+    public static int mediana(int[] a, QuickSort.Metricas m) {
+        return seleccionar(a, rango(50, a.length), m);
+    }
+
+    public static int percentil(int[] a, double p, QuickSort.Metricas m) {
+        return floydRivest(a, rango(p, a.length), m);
+    }
+
+    public static int[] percentiles(int[] a, double[] ps, QuickSort.Metricas m) {
+        int[] rangos = new int[ps.length];
+        for (int i = 0; i < ps.length; i++) rangos[i] = rango(ps[i], a.length);
+        seleccionarVarios(a, rangos, m);
+        int[] valores = new int[ps.length];
+        for (int i = 0; i < ps.length; i++) valores[i] = a[rangos[i]];
+        return valores;
+    }
+
+    static void seleccionar(int[] a, int lo, int hi, int k, boolean lineal, QuickSort.Metricas m) {
+        int malas = 0;
+        while (hi - lo > QuickSort.CORTE_INSERCION) {
+            int n = hi - lo;
+            int pivote = lineal ? medianaDeMedianas(a, lo, hi, m) : QuickSort.elegirPivote(a, lo, hi, m);
+            int[] limites = QuickSort.particionTresVias(a, lo, hi, pivote, m);
+            if (k < limites[0]) hi = limites[0];
+            else if (k >= limites[1]) lo = limites[1];
+            else return;
+            if (avanzo(n, hi - lo)) malas = 0;
+            else if (++malas > MALAS_TOLERADAS) lineal = true;
+        }
+        QuickSort.insertionSort(a, lo, hi, m);
+    }
+
+    private static void seleccionarVarios(int[] a, int lo, int hi, int[] ks, int kLo, int kHi, boolean lineal,
+                                          QuickSort.Metricas m) {
+        int malas = 0;
+        while (kLo < kHi) {
+            if (hi - lo <= QuickSort.CORTE_INSERCION) {
+                QuickSort.insertionSort(a, lo, hi, m);
+                return;
+            }
+            int n = hi - lo;
+            int pivote = lineal ? medianaDeMedianas(a, lo, hi, m) : QuickSort.elegirPivote(a, lo, hi, m);
+            int[] limites = QuickSort.particionTresVias(a, lo, hi, pivote, m);
+            if (avanzo(n, Math.max(limites[0] - lo, hi - limites[1]))) malas = 0;
+            else if (++malas > MALAS_TOLERADAS) lineal = true;
+            int izq = primeroDesde(ks, kLo, kHi, limites[0]);
+            int der = primeroDesde(ks, izq, kHi, limites[1]);
+            seleccionarVarios(a, lo, limites[0], ks, kLo, izq, lineal, m);
+            lo = limites[1];
+            kLo = der;
+        }
+    }
+
+    private static void floydRivest(int[] a, int lo, int hi, int k, QuickSort.Metricas m) {
+        int malas = 0;
+        while (hi - lo > QuickSort.CORTE_INSERCION) {
+            int n = hi - lo;
+            int pivote;
+            if (n > MUESTRA_FLOYD_RIVEST) {
+                int[] muestra = muestra(lo, hi, k);
+                floydRivest(a, muestra[0], muestra[1], k, m);
+                pivote = k;
+            } else {
+                pivote = QuickSort.elegirPivote(a, lo, hi, m);
+            }
+            int[] limites = QuickSort.particionTresVias(a, lo, hi, pivote, m);
+            if (k < limites[0]) hi = limites[0];
+            else if (k >= limites[1]) lo = limites[1];
+            else return;
+            if (avanzo(n, hi - lo)) {
+                malas = 0;
+            } else if (++malas > MALAS_TOLERADAS) {
+                seleccionar(a, lo, hi, k, true, m);
+                return;
+            }
+        }
+        QuickSort.insertionSort(a, lo, hi, m);
+    }
+
+    private static int medianaDeMedianas(int[] a, int lo, int hi, QuickSort.Metricas m) {
+        int medianas = lo;
+        for (int i = lo; i < hi; i += GRUPO) {
+            int fin = Math.min(i + GRUPO, hi);
+            QuickSort.insertionSort(a, i, fin, m);
+            QuickSort.swap(a, medianas++, i + (fin - i) / 2, m);
+        }
+        int medio = lo + (medianas - lo) / 2;
+        seleccionar(a, lo, medianas, medio, true, m);
+        return medio;
+    }
+
+    // ----- Comunes -----
+
+    /** Posición (base 0) del percentil p por rango más cercano. */
+    static int rango(double p, int n) {
+        if (n == 0) throw new IllegalArgumentException("No hay percentiles de un arreglo vacío");
+        if (!(p >= 0 && p <= 100)) throw new IllegalArgumentException("Percentil fuera de rango (0-100): " + p);
+        return Math.max(0, (int) Math.ceil(p / 100.0 * n) - 1);
+    }
+
+    /**
+     * Tramo [izq, der) alrededor de k que Floyd–Rivest selecciona primero: unas n^(2/3)/2
+     * posiciones, corridas hacia el extremo más cercano para que el k-ésimo de la muestra
+     * quede cerca del k-ésimo de todo el tramo.
+     */
+    private static int[] muestra(int lo, int hi, int k) {
+        int n = hi - lo;
+        int i = k - lo + 1;
+        double z = Math.log(n);
+        double s = 0.5 * Math.exp(2 * z / 3);
+        double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * Math.signum(i - n / 2.0);
+        int izq = (int) Math.max(lo, k - i * s / n + sd);
+        int der = (int) Math.min(hi - 1, k + (n - i) * s / n + sd);
+        return new int[] {Math.min(izq, k), Math.max(der, k) + 1};
+    }
+
+    // Si la partición dejó el tramo en 3/4 o menos; si no, es una partición mala
+    private static boolean avanzo(int antes, int despues) {
+        return despues <= antes - antes / 4;
+    }
+
+    // Primer índice de ks[desde, hasta) con valor >= limite
+    private static int primeroDesde(int[] ks, int desde, int hasta, int limite) {
+        while (desde < hasta) {
+            int mid = (desde + hasta) >>> 1;
+            if (ks[mid] < limite) desde = mid + 1;
+            else hasta = mid;
+        }
+        return desde;
+    }
+
+    private static int[] rangosOrdenados(int[] rangos, int n) {
+        int[] ks = rangos.clone();
+        for (int k : ks) validarRango(k, n);
+        Arrays.sort(ks);
+        return ks;
+    }
+
+    private static void validarRango(int k, int n) {
+        if (k < 0 || k >= n) throw new IndexOutOfBoundsException("Rango " + k + " fuera de [0, " + n + ")");
+    }
+}
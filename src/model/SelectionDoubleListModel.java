@@ -2,79 +2,36 @@ package model;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 public class SelectionDoubleListModel {
 
-    private Politician head;
-    private Politician tail;
+    private Node head;
+    private Node tail;
     private int size;
-    private Random random;
-
-    // Lista de nombres de políticos corruptos ficticios
-    private static final String[] FIRST_NAMES = {
-            "Corrupto", "Ladino", "Sinvergüenza", "Ratero", "Saqueador",
-            "Robaldo", "Malandro", "Estafador", "Timador", "Tramposo",
-            "Ladrón", "Pillador", "Mangante", "Cleptómano", "Usurpador",
-            "Defraudor", "Embustero", "Trapacero", "Chantajista", "Sobornador"
-    };
-
-    private static final String[] LAST_NAMES = {
-            "Roba Todo", "Mata Fuego", "Saca Plata", "Mete Mano",
-            "Come Mucho", "Pide Más", "Agarra Todo", "Lleva Lejos",
-            "Hurta Bien", "Afana Legal", "Birla Fácil", "Sustrae Fino",
-            "Manga Limpio", "Rapiña Libre", "Escamotea Rápido", "Desfalca Pro",
-            "Sisea Experto", "Chorea Master", "Tranza VIP", "Tumba Elite"
-    };
+    // Semilla de la próxima generación; cada llamada usa la siguiente
+    private long semilla;
 
     public SelectionDoubleListModel() {
         head = null;
         tail = null;
         size = 0;
-        random = new Random();
+        semilla = System.nanoTime();
     }
 
-    // Clase interna para representar un nodo en la lista doble
-    public static class Politician {
-        private String name;
-        private int moneyToSteal;
-        private Politician next;
-        private Politician prev;
-
-        public Politician(String name, int moneyToSteal) {
-            this.name = name;
-            this.moneyToSteal = moneyToSteal;
-            this.next = null;
-            this.prev = null;
-        }
-
-        public String getName() {
-            return name;
-        }
-
-        public int getMoneyToSteal() {
-            return moneyToSteal;
-        }
-
-        public Politician getNext() {
-            return next;
-        }
-
-        public void setNext(Politician next) {
-            this.next = next;
-        }
-
-        public Politician getPrev() {
-            return prev;
-        }
+    // Con semilla: la primera generación es la de GeneradorDatos con esa semilla y RANDOM
+    public SelectionDoubleListModel(long semilla) {
+        this();
+        this.semilla = semilla;
+    }
 
-        public void setPrev(Politician prev) {
-            this.prev = prev;
-        }
+    // Clase interna para representar un nodo en la lista doble
+    private static class Node {
+        Politician data;
+        Node next;
+        Node prev;
 
-        @Override
-        public String toString() {
-            return name + " ($" + moneyToSteal + ")";
+        Node(Politician data) {
+            this.data = data;
         }
     }
 
@@ -86,24 +43,19 @@ public class SelectionDoubleListModel {
 
         if (count <= 0) return;
 
-        for (int i = 0; i < count; i++) {
-            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
-            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
-            String fullName = firstName + " " + lastName;
-
-            // Generar cantidad aleatoria de dinero a robar (entre 10,000 y 1,000,000)
-            int moneyToSteal = 10000 + random.nextInt(990001);
-
-            Politician newPolitician = new Politician(fullName, moneyToSteal);
+        // Nombres y dinero salen de GeneradorDatos en bloque, sin armar Strings
+        Politician[] generados = new GeneradorDatos(semilla++).politicians(Distribucion.RANDOM, Math.max(count, 0));
+        for (Politician politician : generados) {
+            Node newNode = new Node(politician);
 
             if (head == null) {
-                head = newPolitician;
-                tail = newPolitician;
+                head = newNode;
+                tail = newNode;
             } else {
                 // Insertar al final de la lista doble
-                tail.setNext(newPolitician);
-                newPolitician.setPrev(tail);
-                tail = newPolitician;
+                tail.next = newNode;
+                newNode.prev = tail;
+                tail = newNode;
             }
             size++;
         }
@@ -114,25 +66,44 @@ public class SelectionDoubleListModel {
         return size;
     }
 
+    // Obtener todos los políticos como array para visualización, en un solo recorrido
+    public Politician[] getAllPoliticians() {
+        Politician[] politicians = new Politician[size];
+        Node current = head;
+
+        for (int i = 0; i < size; i++) {
+            politicians[i] = current.data;
+            current = current.next;
+        }
+
+        return politicians;
+    }
+
     // Obtener un político por índice
     public Politician getPolitician(int index) {
+        Node node = getNode(index);
+        return node == null ? null : node.data;
+    }
+
+    // Obtener el nodo de un político por índice
+    private Node getNode(int index) {
         if (head == null || index < 0 || index >= size) {
             return null;
         }
 
         // Optimización: comenzar desde head o tail según el índice
-        Politician current;
+        Node current;
         if (index < size / 2) {
             // Comenzar desde head
             current = head;
             for (int i = 0; i < index; i++) {
-                current = current.getNext();
+                current = current.next;
             }
         } else {
             // Comenzar desde tail
             current = tail;
             for (int i = size - 1; i > index; i--) {
-                current = current.getPrev();
+                current = current.prev;
             }
         }
         return current;
@@ -144,45 +115,54 @@ public class SelectionDoubleListModel {
             return;
         }
 
-        Politician politicianI = getPolitician(i);
-        Politician politicianJ = getPolitician(j);
-
-        // Intercambiar solo los datos, no los nodos
-        String tempName = politicianI.name;
-        int tempMoney = politicianI.moneyToSteal;
-
-        politicianI.name = politicianJ.name;
-        politicianI.moneyToSteal = politicianJ.moneyToSteal;
+        intercambiarDatos(getNode(i), getNode(j));
+    }
 
-        politicianJ.name = tempName;
-        politicianJ.moneyToSteal = tempMoney;
+    // Intercambiar solo los datos, no los nodos
+    private static void intercambiarDatos(Node nodeI, Node nodeJ) {
+        Politician temp = nodeI.data;
+        nodeI.data = nodeJ.data;
+        nodeJ.data = temp;
     }
 
     // Implementación del algoritmo Selection Sort para lista doble
     public int selectionSort() {
+        return selectionSort(null);
+    }
+
+    // Recorre los nodos en lugar de buscarlos por índice, grabando cada paso en la traza si no es null
+    public int selectionSort(TrazaOrdenamiento traza) {
         if (head == null || size <= 1) {
             return 0;
         }
 
         int comparisons = 0;
+        Node nodeI = head;
 
         for (int i = 0; i < size - 1; i++) {
+            Node minNode = nodeI;
             int minIndex = i;
 
             // Encontrar el mínimo elemento en la parte no ordenada
+            Node nodeJ = nodeI.next;
             for (int j = i + 1; j < size; j++) {
                 comparisons++;
+                if (traza != null) traza.comparacion(j, minIndex);
 
-                Politician politicianJ = getPolitician(j);
-                Politician minPolitician = getPolitician(minIndex);
-
-                if (politicianJ.getMoneyToSteal() < minPolitician.getMoneyToSteal()) {
+                if (nodeJ.data.getMoneyToSteal() < minNode.data.getMoneyToSteal()) {
+                    minNode = nodeJ;
                     minIndex = j;
                 }
+                nodeJ = nodeJ.next;
             }
 
             // Intercambiar el elemento mínimo encontrado con el primer elemento
-            swap(i, minIndex);
+            if (minIndex != i) {
+                intercambiarDatos(nodeI, minNode);
+                if (traza != null) traza.intercambio(i, minIndex);
+            }
+            if (traza != null) traza.progreso(i + 1, size - 1);
+            nodeI = nodeI.next;
         }
 
         return comparisons;
@@ -196,15 +176,15 @@ public class SelectionDoubleListModel {
         }
 
         StringBuilder sb = new StringBuilder();
-        Politician current = head;
+        Node current = head;
         int count = 0;
 
         while (current != null) {
             if (count > 0) {
                 sb.append(" ⟷ ");
             }
-            sb.append("[").append(count).append("] ").append(current);
-            current = current.getNext();
+            sb.append("[").append(count).append("] ").append(current.data);
+            current = current.next;
             count++;
         }
 
@@ -218,12 +198,12 @@ public class SelectionDoubleListModel {
         }
 
         StringBuilder sb = new StringBuilder();
-        Politician current = tail;
+        Node current = tail;
         int count = size - 1;
 
         while (current != null) {
-            sb.append("[").append(count).append("] ").append(current);
-            current = current.getPrev();
+            sb.append("[").append(count).append("] ").append(current.data);
+            current = current.prev;
             count--;
             if (current != null) {
                 sb.append(" ⟷ ");
@@ -2,71 +2,32 @@ package model;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 public class SelectionSimpleListModel {
 
     private List<Politician> politicians;
-    private Random random;
-
-    // Lista de nombres de políticos corruptos ficticios
-    private static final String[] FIRST_NAMES = {
-            "Corrupto", "Ladino", "Sinvergüenza", "Ratero", "Saqueador",
-            "Robaldo", "Malandro", "Estafador", "Timador", "Tramposo",
-            "Ladrón", "Pillador", "Mangante", "Cleptómano", "Usurpador",
-            "Defraudor", "Embustero", "Trapacero", "Chantajista", "Sobornador"
-    };
-
-    private static final String[] LAST_NAMES = {
-            "Roba Todo", "Mata Fuego", "Saca Plata", "Mete Mano",
-            "Come Mucho", "Pide Más", "Agarra Todo", "Lleva Lejos",
-            "Hurta Bien", "Afana Legal", "Birla Fácil", "Sustrae Fino",
-            "Manga Limpio", "Rapiña Libre", "Escamotea Rápido", "Desfalca Pro",
-            "Sisea Experto", "Chorea Master", "Tranza VIP", "Tumba Elite"
-    };
+    // Semilla de la próxima generación; cada llamada usa la siguiente
+    private long semilla;
 
     public SelectionSimpleListModel() {
         politicians = new ArrayList<>();
-        random = new Random();
+        semilla = System.nanoTime();
     }
 
-    // Clase interna para representar un político
-    public static class Politician {
-        private String name;
-        private int moneyToSteal;
-
-        public Politician(String name, int moneyToSteal) {
-            this.name = name;
-            this.moneyToSteal = moneyToSteal;
-        }
-
-        public String getName() {
-            return name;
-        }
-
-        public int getMoneyToSteal() {
-            return moneyToSteal;
-        }
-
-        @Override
-        public String toString() {
-            return name + " ($" + moneyToSteal + ")";
-        }
+    // Con semilla: la primera generación es la de GeneradorDatos con esa semilla y RANDOM
+    public SelectionSimpleListModel(long semilla) {
+        this();
+        this.semilla = semilla;
     }
 
     // Generar políticos aleatorios
     public void generateRandomPoliticians(int count) {
         politicians.clear();
 
-        for (int i = 0; i < count; i++) {
-            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
-            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
-            String fullName = firstName + " " + lastName;
-
-            // Generar cantidad aleatoria de dinero a robar (entre 10,000 y 1,000,000)
-            int moneyToSteal = 10000 + random.nextInt(990001);
-
-            politicians.add(new Politician(fullName, moneyToSteal));
+        // Nombres y dinero salen de GeneradorDatos en bloque, sin armar Strings
+        Politician[] generados = new GeneradorDatos(semilla++).politicians(Distribucion.RANDOM, Math.max(count, 0));
+        for (Politician politician : generados) {
+            politicians.add(politician);
         }
     }
 
@@ -101,6 +62,11 @@ public class SelectionSimpleListModel {
 
     // Implementación del algoritmo Selection Sort
     public int selectionSort() {
+        return selectionSort(null);
+    }
+
+    // Igual que selectionSort(), grabando cada paso en la traza si no es null
+    public int selectionSort(TrazaOrdenamiento traza) {
         int n = politicians.size();
         int comparisons = 0;
 
@@ -110,6 +76,7 @@ public class SelectionSimpleListModel {
             // Encontrar el mínimo elemento en la parte no ordenada
             for (int j = i + 1; j < n; j++) {
                 comparisons++;
+                if (traza != null) traza.comparacion(j, minIndex);
                 if (politicians.get(j).getMoneyToSteal() < politicians.get(minIndex).getMoneyToSteal()) {
                     minIndex = j;
                 }
@@ -117,6 +84,10 @@ public class SelectionSimpleListModel {
 
             // Intercambiar el elemento mínimo encontrado con el primer elemento
             swap(i, minIndex);
+            if (traza != null) {
+                if (minIndex != i) traza.intercambio(i, minIndex);
+                traza.progreso(i + 1, n - 1);
+            }
         }
 
         return comparisons;
@@ -0,0 +1,273 @@
+package model;
+
+import model.estructuras.*;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Ordenamiento adaptativo al estilo TimSort: detecta corridas ya ordenadas (invirtiendo
+ * las estrictamente descendentes), alarga las cortas hasta minrun con inserción binaria
+ * y las mezcla con galope. Una entrada casi ordenada se resuelve en tiempo cercano a O(n).
+ * Es estable.
+ */
+public class TimSort {
+    public static class Metricas {
+        public long comparaciones = 0;
+        public long swaps = 0;        // intercambios al invertir corridas descendentes
+        public long movimientos = 0;  // escrituras de la inserción binaria y de las mezclas
+        public long tramos = 0;       // tramos apilados: corridas naturales o alargadas hasta minrun
+        public long tiempoMillis = 0;
+    }
+
+    // Por debajo de este tamaño todo se resuelve con inserción binaria
+    private static final int MIN_MEZCLA = 32;
+    private static final int MIN_GALOPE = 7;
+
+    public static <T extends Comparable<T>> void sort(Lista<T> lista, Metricas m) {
+        T[] a = CopiaLista.copiar(lista);
+        sort(a, Comparator.naturalOrder(), m);
+        CopiaLista.escribir(lista, a);
+    }
+
+    public static <T> void sort(T[] a, Comparator<? super T> cmp, Metricas m) {
+        long t0 = System.currentTimeMillis();
+        new Ejecucion<>(a, cmp, m).ordenar();
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+    }
+
+    static int minRun(int n) {
+        int r = 0;
+        while (n >= MIN_MEZCLA) {
+            r |= n & 1;
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    private static final class Ejecucion<T> {
+        private final T[] a;
+        private final Comparator<? super T> cmp;
+        private final Metricas m;
+        private T[] tmp;
+        private int minGalope = MIN_GALOPE;
+
+        // Pila de corridas pendientes: inicio y largo
+        private final int[] inicioCorrida = new int[85];
+        private final int[] largoCorrida = new int[85];
+        private int pila = 0;
+
+        Ejecucion(T[] a, Comparator<? super T> cmp, Metricas m) {
+            this.a = a;
+            this.cmp = cmp;
+            this.m = m;
+        }
+
+        void ordenar() {
+            int n = a.length;
+            if (n < 2) {
+                m.tramos += n;
+                return;
+            }
+            if (n < MIN_MEZCLA) {
+                int largo = corridaAscendente(0, n);
+                insercionBinaria(0, n, largo);
+                m.tramos++;
+                return;
+            }
+            int minimo = minRun(n);
+            int lo = 0, restantes = n;
+            while (restantes > 0) {
+                int largo = corridaAscendente(lo, lo + restantes);
+                if (largo < minimo) {
+                    int forzado = Math.min(restantes, minimo);
+                    insercionBinaria(lo, lo + forzado, largo);
+                    largo = forzado;
+                }
+                inicioCorrida[pila] = lo;
+                largoCorrida[pila] = largo;
+                pila++;
+                m.tramos++;
+                colapsar();
+                lo += largo;
+                restantes -= largo;
+            }
+            while (pila > 1) {
+                int i = pila - 2;
+                if (i > 0 && largoCorrida[i - 1] < largoCorrida[i + 1]) i--;
+                mezclarEn(i);
+            }
+        }
+
+        // Largo de la corrida que empieza en lo; si es estrictamente descendente la invierte
+        private int corridaAscendente(int lo, int hi) {
+            int fin = lo + 1;
+            if (fin == hi) return 1;
+            m.comparaciones++;
+            if (cmp.compare(a[fin++], a[lo]) < 0) {
+                while (fin < hi) {
+                    m.comparaciones++;
+                    if (cmp.compare(a[fin], a[fin - 1]) >= 0) break;
+                    fin++;
+                }
+                for (int i = lo, j = fin - 1; i < j; i++, j--) {
+                    T t = a[i];
+                    a[i] = a[j];
+                    a[j] = t;
+                    m.swaps++;
+                }
+            } else {
+                while (fin < hi) {
+                    m.comparaciones++;
+                    if (cmp.compare(a[fin], a[fin - 1]) < 0) break;
+                    fin++;
+                }
+            }
+            return fin - lo;
+        }
+
+        // a[lo, lo + largoOrdenado) ya está ordenado; inserta el resto con InsercionBinaria
+        private void insercionBinaria(int lo, int hi, int largoOrdenado) {
+            InsercionBinaria.Metricas ib = new InsercionBinaria.Metricas();
+            InsercionBinaria.sort(a, lo, hi, largoOrdenado, false, cmp, null, ib);
+            m.comparaciones += ib.comparaciones;
+            m.movimientos += ib.movimientos;
+        }
+
+        // Mantiene largo[i-2] > largo[i-1] + largo[i] y largo[i-1] > largo[i] en la pila
+        private void colapsar() {
+            while (pila > 1) {
+                int n = pila - 2;
+                if (n > 0 && largoCorrida[n - 1] <= largoCorrida[n] + largoCorrida[n + 1]
+                        || n > 1 && largoCorrida[n - 2] <= largoCorrida[n] + largoCorrida[n - 1]) {
+                    if (largoCorrida[n - 1] < largoCorrida[n + 1]) n--;
+                } else if (largoCorrida[n] > largoCorrida[n + 1]) {
+                    break;
+                }
+                mezclarEn(n);
+            }
+        }
+
+        private void mezclarEn(int i) {
+            int base1 = inicioCorrida[i], largo1 = largoCorrida[i];
+            int base2 = inicioCorrida[i + 1], largo2 = largoCorrida[i + 1];
+            largoCorrida[i] = largo1 + largo2;
+            if (i == pila - 3) {
+                inicioCorrida[i + 1] = inicioCorrida[i + 2];
+                largoCorrida[i + 1] = largoCorrida[i + 2];
+            }
+            pila--;
+
+            // Lo que ya está en su lugar al principio de la primera y al final de la segunda no se toca
+            int k = galopeDerecha(a[base2], a, base1, largo1);
+            base1 += k;
+            largo1 -= k;
+            if (largo1 == 0) return;
+            largo2 = galopeIzquierda(a[base1 + largo1 - 1], a, base2, largo2);
+            if (largo2 == 0) return;
+            mezclarBajo(base1, largo1, base2, largo2);
+        }
+
+        // Mezcla copiando la primera corrida al buffer y escribiendo de izquierda a derecha
+        private void mezclarBajo(int base1, int largo1, int base2, int largo2) {
+            if (tmp == null || tmp.length < largo1) {
+                tmp = Arrays.copyOf(a, Math.max(largo1, Math.min(a.length, 256)));
+            }
+            System.arraycopy(a, base1, tmp, 0, largo1);
+            m.movimientos += largo1;
+            int c1 = 0, c2 = base2, destino = base1;
+            int fin2 = base2 + largo2;
+
+            externo:
+            while (true) {
+                int gana1 = 0, gana2 = 0;
+                // Uno a uno hasta que un lado gane seguido minGalope veces
+                do {
+                    m.comparaciones++;
+                    m.movimientos++;
+                    if (cmp.compare(a[c2], tmp[c1]) < 0) {
+                        a[destino++] = a[c2++];
+                        gana2++;
+                        gana1 = 0;
+                        if (c2 == fin2) break externo;
+                    } else {
+                        a[destino++] = tmp[c1++];
+                        gana1++;
+                        gana2 = 0;
+                        if (c1 == largo1) break externo;
+                    }
+                } while ((gana1 | gana2) < minGalope);
+
+                // Galope: se copian bloques enteros ubicados por búsqueda exponencial
+                do {
+                    gana1 = galopeDerecha(a[c2], tmp, c1, largo1 - c1);
+                    if (gana1 > 0) {
+                        System.arraycopy(tmp, c1, a, destino, gana1);
+                        m.movimientos += gana1;
+                        destino += gana1;
+                        c1 += gana1;
+                        if (c1 == largo1) break externo;
+                    }
+                    a[destino++] = a[c2++];
+                    m.movimientos++;
+                    if (c2 == fin2) break externo;
+
+                    gana2 = galopeIzquierda(tmp[c1], a, c2, fin2 - c2);
+                    if (gana2 > 0) {
+                        System.arraycopy(a, c2, a, destino, gana2);
+                        m.movimientos += gana2;
+                        destino += gana2;
+                        c2 += gana2;
+                        if (c2 == fin2) break externo;
+                    }
+                    a[destino++] = tmp[c1++];
+                    m.movimientos++;
+                    if (c1 == largo1) break externo;
+                    minGalope--;
+                } while (gana1 >= MIN_GALOPE || gana2 >= MIN_GALOPE);
+                if (minGalope < 0) minGalope = 0;
+                minGalope += 2;
+            }
+            // Lo que quede de la segunda corrida ya está en su lugar
+            if (c1 < largo1) {
+                System.arraycopy(tmp, c1, a, destino, largo1 - c1);
+                m.movimientos += largo1 - c1;
+            }
+        }
+
+        // Cuántos de arr[base, base + largo) son menores o iguales que clave
+        private int galopeDerecha(T clave, T[] arr, int base, int largo) {
+            int ultimoMenorIgual = -1, ofs = 0;
+            while (ofs < largo) {
+                m.comparaciones++;
+                if (cmp.compare(arr[base + ofs], clave) > 0) break;
+                ultimoMenorIgual = ofs;
+                ofs = ofs * 2 + 1;
+            }
+            int lo = ultimoMenorIgual + 1, hi = Math.min(ofs, largo);
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                m.comparaciones++;
+                if (cmp.compare(arr[base + mid], clave) > 0) hi = mid; else lo = mid + 1;
+            }
+            return lo;
+        }
+
+        // Cuántos de arr[base, base + largo) son estrictamente menores que clave
+        private int galopeIzquierda(T clave, T[] arr, int base, int largo) {
+            int ultimoMenor = -1, ofs = 0;
+            while (ofs < largo) {
+                m.comparaciones++;
+                if (cmp.compare(arr[base + ofs], clave) >= 0) break;
+                ultimoMenor = ofs;
+                ofs = ofs * 2 + 1;
+            }
+            int lo = ultimoMenor + 1, hi = Math.min(ofs, largo);
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                m.comparaciones++;
+                if (cmp.compare(arr[base + mid], clave) >= 0) hi = mid; else lo = mid + 1;
+            }
+            return lo;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+/**
+ * Los k primeros elementos según un comparador sin ordenar todo: un montículo binario acotado
+ * a k guarda los mejores vistos hasta ahora con el peor en la raíz, así que cada elemento nuevo
+ * cuesta una comparación contra la raíz y solo si entra, O(log k) más. En total O(n log k)
+ * tiempo y O(k) memoria, por eso sirve con iteradores y streams sin fin conocido.
+ * <p>
+ * El resultado sale ordenado según el comparador: con {@code naturalOrder()} son los k menores
+ * en orden ascendente y con {@code reverseOrder()} los k mayores en orden descendente
+ * ({@link #mayores} y {@link #menores} lo hacen para {@link Politico}). Entre elementos
+ * iguales en el límite no se garantiza cuál queda.
+ * <p>
+ * En paralelo cada tarea llena su propio montículo sobre un tramo del arreglo (o cada hilo de
+ * un stream paralelo) y al final se unen ofreciendo los elementos de uno al otro.
+ */
+public final class TopK {
+    public static class Metricas {
+        public long comparaciones = 0;
+        public long reemplazos = 0;   // elementos que entraron al montículo
+        public long tiempoMillis = 0;
+    }
+
+    /** Tramo mínimo por tarea en paralelo. */
+    public static final int UMBRAL_POR_DEFECTO = 1 << 13;
+
+    private TopK() {
+    }
+
+    /** Los k políticos con más dinero a robar, de mayor a menor. */
+    public static List<Politico> mayores(Iterable<? extends Politico> datos, int k, Metricas m) {
+        return primeros(datos, k, Comparator.reverseOrder(), m);
+    }
+
+    /** Los k políticos con menos dinero a robar, de menor a mayor. */
+    public static List<Politico> menores(Iterable<? extends Politico> datos, int k, Metricas m) {
+        return primeros(datos, k, Comparator.naturalOrder(), m);
+    }
+
+    /** Sirve para cualquier {@code Lista}: la recorre una vez con su cursor. */
+    public static <T> List<T> primeros(Iterable<? extends T> datos, int k, Comparator<? super T> cmp, Metricas m) {
+        return primeros(datos.iterator(), k, cmp, m);
+    }
+
+    public static <T> List<T> primeros(Iterator<? extends T> it, int k, Comparator<? super T> cmp, Metricas m) {
+        long t0 = System.currentTimeMillis();
+        Monticulo<T> monticulo = new Monticulo<>(k, cmp);
+        while (it.hasNext()) monticulo.ofrecer(it.next());
+        return terminar(monticulo, t0, m);
+    }
+
+    public static <T> List<T> primeros(T[] a, int k, Comparator<? super T> cmp, Metricas m) {
+        long t0 = System.currentTimeMillis();
+        Monticulo<T> monticulo = new Monticulo<>(k, cmp);
+        for (T dato : a) monticulo.ofrecer(dato);
+        return terminar(monticulo, t0, m);
+    }
+
+    /** Si el stream es paralelo, cada hilo junta su montículo y se unen al final. */
+    public static <T> List<T> primeros(Stream<? extends T> datos, int k, Comparator<? super T> cmp, Metricas m) {
+        long t0 = System.currentTimeMillis();
+        validarK(k);
+        Monticulo<T> monticulo = datos.collect(() -> new Monticulo<T>(k, cmp), Monticulo::ofrecer, Monticulo::unir);
+        return terminar(monticulo, t0, m);
+    }
+
+    public static <T> List<T> primerosEnParalelo(T[] a, int k, Comparator<? super T> cmp, Metricas m) {
+        return primerosEnParalelo(a, k, cmp, ForkJoinPool.commonPool(), m);
+    }
+
+    public static <T> List<T> primerosEnParalelo(T[] a, int k, Comparator<? super T> cmp, ForkJoinPool pool,
+                                                 Metricas m) {
+        long t0 = System.currentTimeMillis();
+        validarK(k);
+        // Unos pocos tramos por hilo: cada tarea paga O(k log k) al unirse, no conviene partir de más
+        int umbral = Math.max(UMBRAL_POR_DEFECTO, a.length / (4 * pool.getParallelism()));
+        Monticulo<T> monticulo = pool.invoke(new Tarea<>(a, 0, a.length, k, cmp, umbral));
+        return terminar(monticulo, t0, m);
+    }
+
+    private static <T> List<T> terminar(Monticulo<T> monticulo, long t0, Metricas m) {
+        List<T> resultado = monticulo.ordenados();
+        m.comparaciones += monticulo.comparaciones;
+        m.reemplazos += monticulo.reemplazos;
+        m.tiempoMillis = System.currentTimeMillis() - t0;
+        return resultado;
+    }
+
+    private static void validarK(int k) {
+        if (k < 0) throw new IllegalArgumentException("k no puede ser negativo: " + k);
+    }
+
+    // Montículo de a lo sumo k elementos con el peor (el último según cmp) en la raíz
+    private static final class Monticulo<T> {
+        private final int k;
+        private final Comparator<? super T> cmp;
+        private Object[] datos;
+        private int size;
+        long comparaciones;
+        long reemplazos;
+
+        Monticulo(int k, Comparator<? super T> cmp) {
+            validarK(k);
+            this.k = k;
+            this.cmp = cmp;
+            // Crece a demanda: con k grande y pocos datos no se reserva de más
+            this.datos = new Object[Math.min(k, 1 << 10)];
+        }
+
+        void ofrecer(T dato) {
+            if (size < k) {
+                if (size == datos.length) crecer();
+                datos[size] = dato;
+                subir(size++);
+                reemplazos++;
+                return;
+            }
+            if (k == 0) return;
+            comparaciones++;
+            if (cmp.compare(dato, raiz()) >= 0) return;
+            datos[0] = dato;
+            bajar(0);
+            reemplazos++;
+        }
+
+        void unir(Monticulo<T> otro) {
+            for (int i = 0; i < otro.size; i++) ofrecer(otro.elemento(i));
+            comparaciones += otro.comparaciones;
+            reemplazos += otro.reemplazos;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> ordenados() {
+            T[] copia = (T[]) Arrays.copyOf(datos, size);
+            Arrays.sort(copia, cmp);
+            return new ArrayList<>(Arrays.asList(copia));
+        }
+
+        @SuppressWarnings("unchecked")
+        private T elemento(int i) {
+            return (T) datos[i];
+        }
+
+        private T raiz() {
+            return elemento(0);
+        }
+
+        private void crecer() {
+            datos = Arrays.copyOf(datos, (int) Math.min(k, 2L * datos.length));
+        }
+
+        private void subir(int i) {
+            T dato = elemento(i);
+            while (i > 0) {
+                int padre = (i - 1) >>> 1;
+                comparaciones++;
+                if (cmp.compare(dato, elemento(padre)) <= 0) break;
+                datos[i] = datos[padre];
+                i = padre;
+            }
+            datos[i] = dato;
+        }
+
+        private void bajar(int i) {
+            T dato = elemento(i);
+            int mitad = size >>> 1;
+            while (i < mitad) {
+                int hijo = 2 * i + 1;
+                if (hijo + 1 < size) {
+                    comparaciones++;
+                    if (cmp.compare(elemento(hijo + 1), elemento(hijo)) > 0) hijo++;
+                }
+                comparaciones++;
+                if (cmp.compare(dato, elemento(hijo)) >= 0) break;
+                datos[i] = datos[hijo];
+                i = hijo;
+            }
+            datos[i] = dato;
+        }
+    }
+
+    private static final class Tarea<T> extends RecursiveTask<Monticulo<T>> {
+        private final T[] a;
+        private final int lo, hi, k, umbral;
+        private final Comparator<? super T> cmp;
+
+        Tarea(T[] a, int lo, int hi, int k, Comparator<? super T> cmp, int umbral) {
+            this.a = a;
+            this.lo = lo;
+            this.hi = hi;
+            this.k = k;
+            this.cmp = cmp;
+            this.umbral = umbral;
+        }
+
+        @Override
+        protected Monticulo<T> compute() {
+            if (hi - lo <= umbral) {
+                Monticulo<T> monticulo = new Monticulo<>(k, cmp);
+                for (int i = lo; i < hi; i++) monticulo.ofrecer(a[i]);
+                return monticulo;
+            }
+            int mid = (lo + hi) >>> 1;
+            Tarea<T> izq = new Tarea<>(a, lo, mid, k, cmp, umbral);
+            izq.fork();
+            Monticulo<T> der = new Tarea<>(a, mid, hi, k, cmp, umbral).compute();
+            Monticulo<T> resultado = izq.join();
+            resultado.unir(der);
+            return resultado;
+        }
+    }
+}
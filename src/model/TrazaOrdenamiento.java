@@ -0,0 +1,85 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Registro compacto de lo que hace un ordenamiento, para reproducirlo después. Cada evento
+ * son tres enteros (tipo, a, b) en un único arreglo que crece por duplicación: grabar no
+ * arma Strings ni toca la vista, así que el algoritmo corre a su velocidad real y los
+ * contadores reflejan solo su trabajo.
+ */
+public final class TrazaOrdenamiento {
+    /** a y b son las posiciones comparadas. */
+    public static final int COMPARACION = 0;
+    /** Se intercambian los datos de las posiciones a y b. */
+    public static final int INTERCAMBIO = 1;
+    /** El nodo de la posición a pasa a la posición b (b &lt; a); los de en medio corren un lugar. */
+    public static final int REENLACE = 2;
+    /** Terminó la iteración a de b. */
+    public static final int PROGRESO = 3;
+
+    private int[] eventos = new int[3 * 256];
+    private int cantidad = 0;
+    private long comparaciones = 0;
+    private long intercambios = 0;
+    private long reenlaces = 0;
+
+    public void comparacion(int a, int b) {
+        comparaciones++;
+        agregar(COMPARACION, a, b);
+    }
+
+    public void intercambio(int a, int b) {
+        intercambios++;
+        agregar(INTERCAMBIO, a, b);
+    }
+
+    public void reenlace(int desde, int hacia) {
+        reenlaces++;
+        agregar(REENLACE, desde, hacia);
+    }
+
+    public void progreso(int iteracion, int total) {
+        agregar(PROGRESO, iteracion, total);
+    }
+
+    private void agregar(int tipo, int a, int b) {
+        int i = 3 * cantidad;
+        if (i == eventos.length) {
+            eventos = Arrays.copyOf(eventos, eventos.length * 2);
+        }
+        eventos[i] = tipo;
+        eventos[i + 1] = a;
+        eventos[i + 2] = b;
+        cantidad++;
+    }
+
+    /** Cantidad de eventos grabados. */
+    public int size() {
+        return cantidad;
+    }
+
+    public int tipo(int evento) {
+        return eventos[3 * evento];
+    }
+
+    public int a(int evento) {
+        return eventos[3 * evento + 1];
+    }
+
+    public int b(int evento) {
+        return eventos[3 * evento + 2];
+    }
+
+    public long getComparaciones() {
+        return comparaciones;
+    }
+
+    public long getIntercambios() {
+        return intercambios;
+    }
+
+    public long getReenlaces() {
+        return reenlaces;
+    }
+}
@@ -0,0 +1,12 @@
+package model.estructuras;
+
+/**
+ * Contadores que llenan las listas al ordenarse reenlazando sus nodos. Viven aquí para que
+ * las estructuras no dependan de los motores de {@code model}; cada motor los pasa a sus
+ * propias métricas.
+ */
+public class ConteoOrden {
+    public long comparaciones = 0;
+    // Elementos que se adelantan desde el tramo derecho al mezclar
+    public long adelantos = 0;
+}
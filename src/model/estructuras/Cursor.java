@@ -0,0 +1,30 @@
+package model.estructuras;
+
+import java.util.Iterator;
+
+/**
+ * Iterador bidireccional posicionado sobre una {@link Lista}.
+ * El cursor se ubica entre dos elementos (como {@link java.util.ListIterator}):
+ * {@code next()} devuelve el elemento a la derecha y {@code prev()} el de la izquierda.
+ * Avanzar o retroceder una posición cuesta O(1) en las listas dobles; en las simples
+ * {@code prev()} debe recorrer la cadena para encontrar el predecesor.
+ * Un cambio estructural hecho por otro cursor o por la lista invalida este cursor.
+ */
+public interface Cursor<T> extends Iterator<T> {
+    boolean hasPrev();
+
+    T prev();
+
+    /** Índice del elemento que devolvería {@code next()}. */
+    int nextIndex();
+
+    /** Reemplaza el último elemento devuelto por {@code next()} o {@code prev()}. */
+    void set(T dato);
+
+    /** Inserta antes de la posición del cursor; el siguiente {@code next()} no lo devuelve. */
+    void insertBefore(T dato);
+
+    /** Elimina el último elemento devuelto por {@code next()} o {@code prev()}. */
+    @Override
+    void remove();
+}
@@ -0,0 +1,22 @@
+package model.estructuras;
+
+/**
+ * Lista de {@code double} sin boxing. Las implementaciones guardan los datos en un
+ * arreglo primitivo y enlazan los nodos por índice.
+ */
+public interface DoubleLista {
+    void add(double dato);
+    void addAll(double[] datos);
+    void insert(int indice, double dato);
+    double remove(int indice);
+    int size();
+    double get(int indice);
+    void set(int indice, double dato);
+    void clear();
+
+    /** Copia los datos en el orden de la lista. */
+    double[] toArray();
+
+    /** Sobrescribe los datos en el orden de la lista; {@code datos.length} debe ser {@code size()}. */
+    void setAll(double[] datos);
+}
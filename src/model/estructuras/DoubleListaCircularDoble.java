@@ -0,0 +1,8 @@
+package model.estructuras;
+
+/** Lista circular doble de {@code double} con enlaces por índice. */
+public class DoubleListaCircularDoble extends DoubleListaIndexada {
+    public DoubleListaCircularDoble() {
+        super(true, true);
+    }
+}
@@ -0,0 +1,8 @@
+package model.estructuras;
+
+/** Lista circular simple de {@code double} con enlaces por índice. */
+public class DoubleListaCircularSimple extends DoubleListaIndexada {
+    public DoubleListaCircularSimple() {
+        super(false, true);
+    }
+}
@@ -0,0 +1,8 @@
+package model.estructuras;
+
+/** Lista doble de {@code double} con enlaces por índice. */
+public class DoubleListaDoble extends DoubleListaIndexada {
+    public DoubleListaDoble() {
+        super(true, false);
+    }
+}
@@ -0,0 +1,73 @@
+package model.estructuras;
+
+import java.util.Arrays;
+
+/** Datos {@code double} en un arreglo paralelo a los enlaces de {@link EnlacesIndexados}. */
+abstract class DoubleListaIndexada extends EnlacesIndexados implements DoubleLista {
+    private double[] datos;
+
+    DoubleListaIndexada(boolean doble, boolean circular) {
+        super(doble, circular);
+    }
+
+    @Override
+    void crecerDatos(int capacidad) {
+        datos = datos == null ? new double[capacidad] : Arrays.copyOf(datos, capacidad);
+    }
+
+    @Override
+    public void add(double dato) {
+        int nodo = enlazarAlFinal(); // puede crecer datos
+        datos[nodo] = dato;
+    }
+
+    @Override
+    public void addAll(double[] nuevos) {
+        reservar(nuevos.length);
+        for (double dato : nuevos) datos[enlazarAlFinal()] = dato; // ya reservado
+    }
+
+    @Override
+    public void insert(int indice, double dato) {
+        int nodo = enlazarEn(indice); // puede crecer datos
+        datos[nodo] = dato;
+    }
+
+    @Override
+    public double remove(int indice) {
+        return datos[desenlazarEn(indice)];
+    }
+
+    @Override
+    public double get(int indice) {
+        return datos[nodoEn(indice)];
+    }
+
+    @Override
+    public void set(int indice, double dato) {
+        datos[nodoEn(indice)] = dato;
+    }
+
+    @Override
+    public double[] toArray() {
+        double[] copia = new double[tama];
+        int nodo = cabeza;
+        for (int i = 0; i < tama; i++) {
+            copia[i] = datos[nodo];
+            nodo = siguiente[nodo];
+        }
+        return copia;
+    }
+
+    @Override
+    public void setAll(double[] nuevos) {
+        if (nuevos.length != tama) {
+            throw new IllegalArgumentException("Se esperaban " + tama + " datos, llegaron " + nuevos.length);
+        }
+        int nodo = cabeza;
+        for (int i = 0; i < tama; i++) {
+            datos[nodo] = nuevos[i];
+            nodo = siguiente[nodo];
+        }
+    }
+}
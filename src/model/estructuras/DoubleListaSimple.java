@@ -0,0 +1,8 @@
+package model.estructuras;
+
+/** Lista simple de {@code double} con enlaces por índice. */
+public class DoubleListaSimple extends DoubleListaIndexada {
+    public DoubleListaSimple() {
+        super(false, false);
+    }
+}
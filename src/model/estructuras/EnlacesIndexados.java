@@ -0,0 +1,145 @@
+package model.estructuras;
+
+import java.util.Arrays;
+
+/**
+ * Enlaces de una lista guardados en arreglos de enteros: cada nodo es un índice (slot)
+ * y {@code siguiente[n]} / {@code anterior[n]} son índices de otros slots. La forma de la
+ * lista (simple o doble, lineal o circular) se fija en el constructor. Las subclases
+ * guardan el dato de cada slot en su propio arreglo primitivo paralelo.
+ */
+abstract class EnlacesIndexados {
+    static final int NULO = -1;
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    private final boolean doble;
+    private final boolean circular;
+
+    int[] siguiente;
+    int[] anterior; // null en las listas simples
+    int cabeza = NULO;
+    int cola = NULO;
+    int tama;
+    private int usados; // slots entregados alguna vez
+    private int libre = NULO; // slots liberados, encadenados por siguiente[]
+
+    EnlacesIndexados(boolean doble, boolean circular) {
+        this.doble = doble;
+        this.circular = circular;
+        siguiente = new int[CAPACIDAD_INICIAL];
+        if (doble) anterior = new int[CAPACIDAD_INICIAL];
+        crecerDatos(CAPACIDAD_INICIAL);
+    }
+
+    /** Redimensiona el arreglo de datos de la subclase a {@code capacidad}. */
+    abstract void crecerDatos(int capacidad);
+
+    public int size() {
+        return tama;
+    }
+
+    public void clear() {
+        cabeza = cola = NULO;
+        tama = 0;
+        usados = 0;
+        libre = NULO;
+    }
+
+    void reservar(int extra) {
+        int necesaria = usados + extra;
+        if (necesaria <= siguiente.length) return;
+        int capacidad = Math.max(necesaria, siguiente.length * 2);
+        siguiente = Arrays.copyOf(siguiente, capacidad);
+        if (doble) anterior = Arrays.copyOf(anterior, capacidad);
+        crecerDatos(capacidad);
+    }
+
+    int nuevoNodo() {
+        if (libre != NULO) {
+            int nodo = libre;
+            libre = siguiente[nodo];
+            return nodo;
+        }
+        reservar(1);
+        return usados++;
+    }
+
+    /** Agrega un slot nuevo al final y lo devuelve. */
+    int enlazarAlFinal() {
+        int nodo = nuevoNodo();
+        if (cabeza == NULO) {
+            cabeza = nodo;
+            if (doble) anterior[nodo] = NULO;
+        } else {
+            siguiente[cola] = nodo;
+            if (doble) anterior[nodo] = cola;
+        }
+        cola = nodo;
+        tama++;
+        cerrar();
+        return nodo;
+    }
+
+    /** Inserta un slot nuevo para que quede en la posición {@code indice} y lo devuelve. */
+    int enlazarEn(int indice) {
+        if (indice < 0 || indice > tama) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice);
+        }
+        if (indice == tama) return enlazarAlFinal();
+        int previo = indice == 0 ? NULO : nodoEn(indice - 1);
+        int proximo = previo == NULO ? cabeza : siguiente[previo];
+        int nodo = nuevoNodo();
+        siguiente[nodo] = proximo;
+        if (previo == NULO) cabeza = nodo; else siguiente[previo] = nodo;
+        if (doble) {
+            anterior[nodo] = previo;
+            anterior[proximo] = nodo;
+        }
+        tama++;
+        cerrar();
+        return nodo;
+    }
+
+    /** Saca de la cadena el slot de la posición {@code indice} y lo devuelve (ya liberado). */
+    int desenlazarEn(int indice) {
+        if (indice < 0 || indice >= tama) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice);
+        }
+        int previo = indice == 0 ? NULO : nodoEn(indice - 1);
+        int nodo = previo == NULO ? cabeza : siguiente[previo];
+        int proximo = indice == tama - 1 ? NULO : siguiente[nodo];
+        if (previo == NULO) cabeza = proximo; else siguiente[previo] = proximo;
+        if (proximo == NULO) cola = previo; else if (doble) anterior[proximo] = previo;
+        tama--;
+        siguiente[nodo] = libre;
+        libre = nodo;
+        if (tama == 0) {
+            cabeza = cola = NULO;
+        } else {
+            cerrar();
+        }
+        return nodo;
+    }
+
+    /** Slot de la posición {@code indice}; las dobles recorren desde el extremo más cercano. */
+    int nodoEn(int indice) {
+        if (indice < 0 || indice >= tama) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice);
+        }
+        int nodo;
+        if (doble && indice >= tama / 2) {
+            nodo = cola;
+            for (int i = tama - 1; i > indice; i--) nodo = anterior[nodo];
+        } else {
+            nodo = cabeza;
+            for (int i = 0; i < indice; i++) nodo = siguiente[nodo];
+        }
+        return nodo;
+    }
+
+    // Une la cola con la cabeza en las circulares, o marca los extremos en las lineales
+    private void cerrar() {
+        siguiente[cola] = circular ? cabeza : NULO;
+        if (doble) anterior[cabeza] = circular ? cola : NULO;
+    }
+}
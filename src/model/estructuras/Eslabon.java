@@ -0,0 +1,66 @@
+package model.estructuras;
+
+import java.util.Comparator;
+
+/**
+ * Lo que comparten los nodos de las listas enlazadas genéricas: el dato y el enlace al
+ * siguiente. Cada lista declara su propio nodo extendiendo esta clase (las dobles le agregan
+ * {@code anterior}), así el merge sort sobre los enlaces se escribe una sola vez.
+ */
+abstract class Eslabon<T, N extends Eslabon<T, N>> {
+    T dato;
+    N siguiente;
+
+    Eslabon(T dato) {
+        this.dato = dato;
+    }
+
+    /**
+     * Merge sort bottom-up que reenlaza los nodos en su lugar: sin recursión, sin arreglo
+     * auxiliar y sin crear nodos nuevos. Es estable. Recibe una cadena de {@code tama} nodos
+     * terminada en null y devuelve su nueva cabeza; los enlaces hacia atrás y el círculo
+     * quedan a cargo de cada lista.
+     */
+    static <T, N extends Eslabon<T, N>> N mergeSort(N cabeza, int tama, Comparator<? super T> cmp,
+                                                     ConteoOrden c) {
+        for (int ancho = 1; ancho < tama; ancho *= 2) {
+            N resto = cabeza;
+            N inicio = null, fin = null;
+            while (resto != null) {
+                N izq = resto;
+                N der = cortar(izq, ancho);
+                resto = cortar(der, ancho);
+                while (izq != null && der != null) {
+                    c.comparaciones++;
+                    N menor;
+                    if (cmp.compare(izq.dato, der.dato) <= 0) {
+                        menor = izq;
+                        izq = izq.siguiente;
+                    } else {
+                        menor = der;
+                        der = der.siguiente;
+                        c.adelantos++;
+                    }
+                    if (fin == null) inicio = menor; else fin.siguiente = menor;
+                    fin = menor;
+                }
+                // Uno de los dos tramos siempre queda con nodos
+                N sobrante = izq != null ? izq : der;
+                if (fin == null) inicio = sobrante; else fin.siguiente = sobrante;
+                fin = sobrante;
+                while (fin.siguiente != null) fin = fin.siguiente;
+            }
+            cabeza = inicio;
+        }
+        return cabeza;
+    }
+
+    // Corta la cadena tras k nodos y devuelve lo que queda
+    private static <N extends Eslabon<?, N>> N cortar(N inicio, int k) {
+        for (int i = 1; inicio != null && i < k; i++) inicio = inicio.siguiente;
+        if (inicio == null) return null;
+        N resto = inicio.siguiente;
+        inicio.siguiente = null;
+        return resto;
+    }
+}
@@ -0,0 +1,22 @@
+package model.estructuras;
+
+/**
+ * Lista de {@code int} sin boxing. Las implementaciones guardan los datos en un
+ * arreglo primitivo y enlazan los nodos por índice.
+ */
+public interface IntLista {
+    void add(int dato);
+    void addAll(int[] datos);
+    void insert(int indice, int dato);
+    int remove(int indice);
+    int size();
+    int get(int indice);
+    void set(int indice, int dato);
+    void clear();
+
+    /** Copia los datos en el orden de la lista. */
+    int[] toArray();
+
+    /** Sobrescribe los datos en el orden de la lista; {@code datos.length} debe ser {@code size()}. */
+    void setAll(int[] datos);
+}
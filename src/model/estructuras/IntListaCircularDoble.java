@@ -0,0 +1,8 @@
+package model.estructuras;
+
+/** Lista circular doble de {@code int} con enlaces por índice. */
+public class IntListaCircularDoble extends IntListaIndexada {
+    public IntListaCircularDoble() {
+        super(true, true);
+    }
+}
@@ -0,0 +1,8 @@
+package model.estructuras;
+
+/** Lista circular simple de {@code int} con enlaces por índice. */
+public class IntListaCircularSimple extends IntListaIndexada {
+    public IntListaCircularSimple() {
+        super(false, true);
+    }
+}
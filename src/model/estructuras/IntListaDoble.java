@@ -0,0 +1,8 @@
+package model.estructuras;
+
+/** Lista doble de {@code int} con enlaces por índice. */
+public class IntListaDoble extends IntListaIndexada {
+    public IntListaDoble() {
+        super(true, false);
+    }
+}
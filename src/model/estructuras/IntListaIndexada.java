@@ -0,0 +1,73 @@
+package model.estructuras;
+
+import java.util.Arrays;
+
+/** Datos {@code int} en un arreglo paralelo a los enlaces de {@link EnlacesIndexados}. */
+abstract class IntListaIndexada extends EnlacesIndexados implements IntLista {
+    private int[] datos;
+
+    IntListaIndexada(boolean doble, boolean circular) {
+        super(doble, circular);
+    }
+
+    @Override
+    void crecerDatos(int capacidad) {
+        datos = datos == null ? new int[capacidad] : Arrays.copyOf(datos, capacidad);
+    }
+
+    @Override
+    public void add(int dato) {
+        int nodo = enlazarAlFinal(); // puede crecer datos
+        datos[nodo] = dato;
+    }
+
+    @Override
+    public void addAll(int[] nuevos) {
+        reservar(nuevos.length);
+        for (int dato : nuevos) datos[enlazarAlFinal()] = dato; // ya reservado
+    }
+
+    @Override
+    public void insert(int indice, int dato) {
+        int nodo = enlazarEn(indice); // puede crecer datos
+        datos[nodo] = dato;
+    }
+
+    @Override
+    public int remove(int indice) {
+        return datos[desenlazarEn(indice)];
+    }
+
+    @Override
+    public int get(int indice) {
+        return datos[nodoEn(indice)];
+    }
+
+    @Override
+    public void set(int indice, int dato) {
+        datos[nodoEn(indice)] = dato;
+    }
+
+    @Override
+    public int[] toArray() {
+        int[] copia = new int[tama];
+        int nodo = cabeza;
+        for (int i = 0; i < tama; i++) {
+            copia[i] = datos[nodo];
+            nodo = siguiente[nodo];
+        }
+        return copia;
+    }
+
+    @Override
+    public void setAll(int[] nuevos) {
+        if (nuevos.length != tama) {
+            throw new IllegalArgumentException("Se esperaban " + tama + " datos, llegaron " + nuevos.length);
+        }
+        int nodo = cabeza;
+        for (int i = 0; i < tama; i++) {
+            datos[nodo] = nuevos[i];
+            nodo = siguiente[nodo];
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package model.estructuras;
+
+/** Lista simple de {@code int} con enlaces por índice. */
+public class IntListaSimple extends IntListaIndexada {
+    public IntListaSimple() {
+        super(false, false);
+    }
+}
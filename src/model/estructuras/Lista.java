@@ -1,9 +1,39 @@
 package model.estructuras;
 
-public interface Lista<T> {
+import java.util.Comparator;
+import java.util.Iterator;
+
+public interface Lista<T> extends Iterable<T> {
     void add(T dato);
     int size();
     T get(int indice);
     void set(int indice, T dato);
     void clear();
+
+    default void addAll(Iterable<? extends T> datos) {
+        for (T dato : datos) add(dato);
+    }
+
+    default void addAll(T[] datos) {
+        for (T dato : datos) add(dato);
+    }
+
+    /**
+     * Ordena la lista reenlazando sus nodos y suma comparaciones y adelantos en {@code c}.
+     * Las listas que mantienen su propio orden, como {@link ListaSaltos}, solo aceptan un
+     * {@code cmp} compatible con él y lanzan {@link IllegalArgumentException} si no.
+     */
+    void mergeSort(Comparator<? super T> cmp, ConteoOrden c);
+
+    /** Cursor ubicado antes del elemento {@code indice} (0 &lt;= indice &lt;= size()). */
+    Cursor<T> cursor(int indice);
+
+    default Cursor<T> cursor() {
+        return cursor(0);
+    }
+
+    @Override
+    default Iterator<T> iterator() {
+        return cursor(0);
+    }
 }
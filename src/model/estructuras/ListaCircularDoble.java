@@ -1,11 +1,12 @@
 package model.estructuras;
 
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
 public class ListaCircularDoble<T> implements Lista<T> {
-    private class Nodo {
-        T dato;
-        Nodo siguiente;
+    private class Nodo extends Eslabon<T, Nodo> {
         Nodo anterior;
-        Nodo(T dato) { this.dato = dato; }
+        Nodo(T dato) { super(dato); }
     }
 
     private Nodo cabeza;
@@ -63,4 +64,125 @@ public class ListaCircularDoble<T> implements Lista<T> {
         cabeza = null;
         tama = 0;
     }
+
+    @Override
+    public void mergeSort(Comparator<? super T> cmp, ConteoOrden c) {
+        if (tama < 2) return;
+        cabeza.anterior.siguiente = null; // se abre el círculo mientras se ordena
+        cabeza = Eslabon.mergeSort(cabeza, tama, cmp, c);
+        // Restaurar los enlaces hacia atrás y cerrar el círculo
+        Nodo previo = null;
+        for (Nodo n = cabeza; n != null; n = n.siguiente) {
+            n.anterior = previo;
+            previo = n;
+        }
+        previo.siguiente = cabeza;
+        cabeza.anterior = previo;
+    }
+
+    @Override
+    public Cursor<T> cursor(int indice) {
+        if (indice < 0 || indice > tama) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice);
+        }
+        return new CursorCircularDoble(indice);
+    }
+
+    private class CursorCircularDoble implements Cursor<T> {
+        private Nodo proximo; // nodo a la derecha del cursor (vuelve a la cabeza al final)
+        private Nodo ultimo;  // último devuelto por next/prev
+        private boolean adelante;
+        private int indice;
+
+        CursorCircularDoble(int indice) {
+            this.indice = indice;
+            proximo = cabeza;
+            if (cabeza != null) {
+                if (indice <= tama / 2) {
+                    for (int i = 0; i < indice; i++) proximo = proximo.siguiente;
+                } else {
+                    for (int i = tama; i > indice; i--) proximo = proximo.anterior;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return indice < tama;
+        }
+
+        @Override
+        public T next() {
+            if (indice >= tama) throw new NoSuchElementException();
+            ultimo = proximo;
+            proximo = proximo.siguiente;
+            adelante = true;
+            indice++;
+            return ultimo.dato;
+        }
+
+        @Override
+        public boolean hasPrev() {
+            return indice > 0;
+        }
+
+        @Override
+        public T prev() {
+            if (indice <= 0) throw new NoSuchElementException();
+            proximo = proximo.anterior;
+            ultimo = proximo;
+            adelante = false;
+            indice--;
+            return ultimo.dato;
+        }
+
+        @Override
+        public int nextIndex() {
+            return indice;
+        }
+
+        @Override
+        public void set(T dato) {
+            if (ultimo == null) throw new IllegalStateException();
+            ultimo.dato = dato;
+        }
+
+        @Override
+        public void insertBefore(T dato) {
+            Nodo nuevo = new Nodo(dato);
+            if (cabeza == null) {
+                nuevo.siguiente = nuevo;
+                nuevo.anterior = nuevo;
+                cabeza = nuevo;
+                proximo = nuevo;
+            } else {
+                Nodo previo = proximo.anterior;
+                previo.siguiente = nuevo;
+                nuevo.anterior = previo;
+                nuevo.siguiente = proximo;
+                proximo.anterior = nuevo;
+                if (indice == 0) cabeza = nuevo;
+            }
+            ultimo = null;
+            indice++;
+            tama++;
+        }
+
+        @Override
+        public void remove() {
+            if (ultimo == null) throw new IllegalStateException();
+            if (tama == 1) {
+                cabeza = null;
+                proximo = null;
+            } else {
+                ultimo.anterior.siguiente = ultimo.siguiente;
+                ultimo.siguiente.anterior = ultimo.anterior;
+                if (ultimo == cabeza) cabeza = ultimo.siguiente;
+                if (!adelante) proximo = ultimo.siguiente;
+            }
+            if (adelante) indice--;
+            ultimo = null;
+            tama--;
+        }
+    }
 }
@@ -1,17 +1,19 @@
 package model.estructuras;
 
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
 public class ListaCircularSimple<T> implements Lista<T> {
-    private class Nodo {
-        T dato;
-        Nodo siguiente;
-        Nodo(T dato) { this.dato = dato; }
+    private class Nodo extends Eslabon<T, Nodo> {
+        Nodo(T dato) { super(dato); }
     }
 
     private Nodo cabeza;
+    private Nodo cola;
     private int tama;
 
     public ListaCircularSimple() {
-        cabeza = null;
+        cabeza = cola = null;
         tama = 0;
     }
 
@@ -20,18 +22,51 @@ public class ListaCircularSimple<T> implements Lista<T> {
         Nodo nuevo = new Nodo(dato);
         if (cabeza == null) {
             cabeza = nuevo;
-            nuevo.siguiente = cabeza;
         } else {
-            Nodo temp = cabeza;
-            while (temp.siguiente != cabeza) {
-                temp = temp.siguiente;
-            }
-            temp.siguiente = nuevo;
-            nuevo.siguiente = cabeza;
+            cola.siguiente = nuevo;
         }
+        nuevo.siguiente = cabeza;
+        cola = nuevo;
         tama++;
     }
 
+    @Override
+    public void addAll(Iterable<? extends T> datos) {
+        // Se arma la cadena completa y luego se cierra el círculo de una sola vez
+        Nodo primero = null, ultimo = null;
+        int cuenta = 0;
+        for (T dato : datos) {
+            Nodo nuevo = new Nodo(dato);
+            if (primero == null) primero = nuevo; else ultimo.siguiente = nuevo;
+            ultimo = nuevo;
+            cuenta++;
+        }
+        enlazar(primero, ultimo, cuenta);
+    }
+
+    @Override
+    public void addAll(T[] datos) {
+        Nodo primero = null, ultimo = null;
+        for (T dato : datos) {
+            Nodo nuevo = new Nodo(dato);
+            if (primero == null) primero = nuevo; else ultimo.siguiente = nuevo;
+            ultimo = nuevo;
+        }
+        enlazar(primero, ultimo, datos.length);
+    }
+
+    private void enlazar(Nodo primero, Nodo ultimo, int cuenta) {
+        if (primero == null) return;
+        if (cabeza == null) {
+            cabeza = primero;
+        } else {
+            cola.siguiente = primero;
+        }
+        ultimo.siguiente = cabeza;
+        cola = ultimo;
+        tama += cuenta;
+    }
+
     @Override
     public int size() {
         return tama;
@@ -59,7 +94,137 @@ public class ListaCircularSimple<T> implements Lista<T> {
 
     @Override
     public void clear() {
-        cabeza = null;
+        cabeza = cola = null;
         tama = 0;
     }
+
+    @Override
+    public void mergeSort(Comparator<? super T> cmp, ConteoOrden c) {
+        if (tama < 2) return;
+        cola.siguiente = null; // se abre el círculo mientras se ordena
+        cabeza = Eslabon.mergeSort(cabeza, tama, cmp, c);
+        cola = cabeza;
+        while (cola.siguiente != null) cola = cola.siguiente;
+        cola.siguiente = cabeza;
+    }
+
+    @Override
+    public Cursor<T> cursor(int indice) {
+        if (indice < 0 || indice > tama) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice);
+        }
+        return new CursorCircularSimple(indice);
+    }
+
+    private class CursorCircularSimple implements Cursor<T> {
+        private Nodo previo;     // predecesor físico de proximo (la cola si indice == 0)
+        private Nodo proximo;    // nodo a la derecha del cursor (vuelve a la cabeza al final)
+        private Nodo ultimo;     // último devuelto por next/prev
+        private Nodo predUltimo; // predecesor físico de ultimo
+        private boolean adelante;
+        private int indice;
+
+        CursorCircularSimple(int indice) {
+            this.indice = indice;
+            if (cabeza != null) {
+                previo = cola;
+                proximo = cabeza;
+                for (int i = 0; i < indice; i++) {
+                    previo = proximo;
+                    proximo = proximo.siguiente;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return indice < tama;
+        }
+
+        @Override
+        public T next() {
+            if (indice >= tama) throw new NoSuchElementException();
+            predUltimo = previo;
+            ultimo = proximo;
+            previo = proximo;
+            proximo = proximo.siguiente;
+            adelante = true;
+            indice++;
+            return ultimo.dato;
+        }
+
+        @Override
+        public boolean hasPrev() {
+            return indice > 0;
+        }
+
+        @Override
+        public T prev() {
+            if (indice <= 0) throw new NoSuchElementException();
+            // Sin enlace hacia atrás: se da la vuelta al círculo hasta el predecesor
+            Nodo pred = cola;
+            if (previo != cabeza) {
+                pred = cabeza;
+                while (pred.siguiente != previo) pred = pred.siguiente;
+            }
+            ultimo = previo;
+            predUltimo = pred;
+            proximo = previo;
+            previo = pred;
+            adelante = false;
+            indice--;
+            return ultimo.dato;
+        }
+
+        @Override
+        public int nextIndex() {
+            return indice;
+        }
+
+        @Override
+        public void set(T dato) {
+            if (ultimo == null) throw new IllegalStateException();
+            ultimo.dato = dato;
+        }
+
+        @Override
+        public void insertBefore(T dato) {
+            Nodo nuevo = new Nodo(dato);
+            if (cabeza == null) {
+                nuevo.siguiente = nuevo;
+                cabeza = cola = nuevo;
+                proximo = nuevo;
+            } else {
+                previo.siguiente = nuevo;
+                nuevo.siguiente = proximo;
+                if (indice == 0) cabeza = nuevo;
+                if (indice == tama) cola = nuevo;
+            }
+            previo = nuevo;
+            ultimo = null;
+            indice++;
+            tama++;
+        }
+
+        @Override
+        public void remove() {
+            if (ultimo == null) throw new IllegalStateException();
+            if (tama == 1) {
+                cabeza = cola = null;
+                previo = proximo = null;
+            } else {
+                predUltimo.siguiente = ultimo.siguiente;
+                if (ultimo == cabeza) cabeza = ultimo.siguiente;
+                if (ultimo == cola) cola = predUltimo;
+                if (adelante) {
+                    previo = predUltimo;
+                } else {
+                    proximo = ultimo.siguiente;
+                }
+            }
+            if (adelante) indice--;
+            ultimo = null;
+            tama--;
+        }
+    }
 }
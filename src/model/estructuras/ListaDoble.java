@@ -1,11 +1,12 @@
 package model.estructuras;
 
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
 public class ListaDoble<T> implements Lista<T> {
-    private class Nodo {
-        T dato;
-        Nodo siguiente;
+    private class Nodo extends Eslabon<T, Nodo> {
         Nodo anterior;
-        Nodo(T dato) { this.dato = dato; }
+        Nodo(T dato) { super(dato); }
     }
 
     private Nodo cabeza;
@@ -72,4 +73,116 @@ public class ListaDoble<T> implements Lista<T> {
         cabeza = cola = null;
         tama = 0;
     }
+
+    @Override
+    public void mergeSort(Comparator<? super T> cmp, ConteoOrden c) {
+        if (tama < 2) return;
+        cabeza = Eslabon.mergeSort(cabeza, tama, cmp, c);
+        // Restaurar los enlaces hacia atrás
+        Nodo previo = null;
+        for (Nodo n = cabeza; n != null; n = n.siguiente) {
+            n.anterior = previo;
+            previo = n;
+        }
+        cola = previo;
+    }
+
+    @Override
+    public Cursor<T> cursor(int indice) {
+        if (indice < 0 || indice > tama) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice);
+        }
+        return new CursorDoble(indice);
+    }
+
+    private class CursorDoble implements Cursor<T> {
+        private Nodo proximo; // nodo a la derecha del cursor (null al final)
+        private Nodo ultimo;  // último devuelto por next/prev
+        private boolean adelante;
+        private int indice;
+
+        CursorDoble(int indice) {
+            this.indice = indice;
+            if (indice < tama / 2) {
+                proximo = cabeza;
+                for (int i = 0; i < indice; i++) proximo = proximo.siguiente;
+            } else if (indice < tama) {
+                proximo = cola;
+                for (int i = tama - 1; i > indice; i--) proximo = proximo.anterior;
+            }
+        }
+
+        private Nodo previo() {
+            return proximo == null ? cola : proximo.anterior;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return proximo != null;
+        }
+
+        @Override
+        public T next() {
+            if (proximo == null) throw new NoSuchElementException();
+            ultimo = proximo;
+            proximo = proximo.siguiente;
+            adelante = true;
+            indice++;
+            return ultimo.dato;
+        }
+
+        @Override
+        public boolean hasPrev() {
+            return previo() != null;
+        }
+
+        @Override
+        public T prev() {
+            Nodo previo = previo();
+            if (previo == null) throw new NoSuchElementException();
+            ultimo = previo;
+            proximo = previo;
+            adelante = false;
+            indice--;
+            return ultimo.dato;
+        }
+
+        @Override
+        public int nextIndex() {
+            return indice;
+        }
+
+        @Override
+        public void set(T dato) {
+            if (ultimo == null) throw new IllegalStateException();
+            ultimo.dato = dato;
+        }
+
+        @Override
+        public void insertBefore(T dato) {
+            Nodo nuevo = new Nodo(dato);
+            Nodo previo = previo();
+            nuevo.anterior = previo;
+            nuevo.siguiente = proximo;
+            if (previo == null) cabeza = nuevo; else previo.siguiente = nuevo;
+            if (proximo == null) cola = nuevo; else proximo.anterior = nuevo;
+            ultimo = null;
+            indice++;
+            tama++;
+        }
+
+        @Override
+        public void remove() {
+            if (ultimo == null) throw new IllegalStateException();
+            if (ultimo.anterior == null) cabeza = ultimo.siguiente; else ultimo.anterior.siguiente = ultimo.siguiente;
+            if (ultimo.siguiente == null) cola = ultimo.anterior; else ultimo.siguiente.anterior = ultimo.anterior;
+            if (adelante) {
+                indice--;
+            } else {
+                proximo = ultimo.siguiente;
+            }
+            ultimo = null;
+            tama--;
+        }
+    }
 }
@@ -0,0 +1,369 @@
+package model.estructuras;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * Lista siempre ordenada sobre una skip list. {@code add} inserta en su lugar (después de los
+ * iguales, así que conserva el orden de llegada) en O(log n) esperado, y cada enlace guarda
+ * cuántas posiciones salta, de modo que {@code get(i)}, {@code cursor(i)} y borrar por
+ * posición también son O(log n) sin recorrer la cadena.
+ * <p>
+ * {@code set} y {@code insertBefore} de los cursores solo aceptan datos que mantengan el
+ * orden; si no, lanzan {@link IllegalArgumentException}. Así los motores que escriben el
+ * resultado de vuelta con un cursor siguen funcionando.
+ */
+public class ListaSaltos<T> implements Lista<T> {
+    private static final int MAX_NIVEL = 32;
+
+    private class Nodo {
+        T dato;
+        final Nodo[] siguientes;
+        // saltos[l]: posiciones que avanza siguientes[l] (hasta el final si es null)
+        final int[] saltos;
+        Nodo anterior;
+
+        Nodo(T dato, int nivel) {
+            this.dato = dato;
+            this.siguientes = nodos(nivel);
+            this.saltos = new int[nivel];
+        }
+    }
+
+    private final Comparator<? super T> cmp;
+    private final SplittableRandom random = new SplittableRandom();
+    private final Nodo cabeza = new Nodo(null, MAX_NIVEL);
+    private Nodo cola;
+    private int nivel = 1;
+    private int tama;
+    // Predecesores por nivel de la última búsqueda; se reusan para no crear arreglos en cada operación
+    private final Nodo[] previos = nodos(MAX_NIVEL);
+    private final int[] posiciones = new int[MAX_NIVEL];
+
+    /** Ordena por el orden natural; los elementos tienen que ser {@link Comparable}. */
+    @SuppressWarnings("unchecked")
+    public ListaSaltos() {
+        this((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    public ListaSaltos(Comparator<? super T> cmp) {
+        this.cmp = cmp;
+    }
+
+    /** Inserta en orden, después de los elementos iguales. */
+    @Override
+    public void add(T dato) {
+        Nodo x = cabeza;
+        int recorrido = 0;
+        for (int l = nivel - 1; l >= 0; l--) {
+            while (x.siguientes[l] != null && cmp.compare(x.siguientes[l].dato, dato) <= 0) {
+                recorrido += x.saltos[l];
+                x = x.siguientes[l];
+            }
+            previos[l] = x;
+            posiciones[l] = recorrido;
+        }
+        enlazar(dato);
+    }
+
+    @Override
+    public int size() {
+        return tama;
+    }
+
+    @Override
+    public T get(int indice) {
+        return nodo(indice).dato;
+    }
+
+    /** Solo acepta un dato que deje la lista en orden en esa posición. */
+    @Override
+    public void set(int indice, T dato) {
+        Nodo n = nodo(indice);
+        validarOrden(n.anterior, dato, n.siguientes[0]);
+        n.dato = dato;
+    }
+
+    @Override
+    public void clear() {
+        for (int l = 0; l < MAX_NIVEL; l++) {
+            cabeza.siguientes[l] = null;
+            cabeza.saltos[l] = 0;
+            previos[l] = null;
+        }
+        cola = null;
+        nivel = 1;
+        tama = 0;
+    }
+
+    /** Borra el elemento de la posición indicada y lo devuelve. */
+    public T removeAt(int indice) {
+        if (indice < 0 || indice >= tama) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice);
+        }
+        Nodo x = cabeza;
+        int recorrido = 0;
+        for (int l = nivel - 1; l >= 0; l--) {
+            while (x.siguientes[l] != null && recorrido + x.saltos[l] <= indice) {
+                recorrido += x.saltos[l];
+                x = x.siguientes[l];
+            }
+            previos[l] = x;
+        }
+        Nodo borrado = previos[0].siguientes[0];
+        desenlazar(borrado);
+        return borrado.dato;
+    }
+
+    /** Borra el primer elemento igual a {@code dato}; devuelve si había alguno. */
+    public boolean remove(T dato) {
+        int indice = indiceDe(dato);
+        if (indice == tama || cmp.compare(get(indice), dato) != 0) return false;
+        removeAt(indice);
+        return true;
+    }
+
+    public boolean contains(T dato) {
+        int indice = indiceDe(dato);
+        return indice < tama && cmp.compare(get(indice), dato) == 0;
+    }
+
+    /** Cantidad de elementos menores que {@code dato}: la posición del primero que no lo es. */
+    public int indiceDe(T dato) {
+        Nodo x = cabeza;
+        int recorrido = 0;
+        for (int l = nivel - 1; l >= 0; l--) {
+            while (x.siguientes[l] != null && cmp.compare(x.siguientes[l].dato, dato) < 0) {
+                recorrido += x.saltos[l];
+                x = x.siguientes[l];
+            }
+        }
+        return recorrido;
+    }
+
+    /** Recorre en orden los elementos de [desde, hasta); ubicar el inicio cuesta O(log n). */
+    public Iterator<T> rango(T desde, T hasta) {
+        Nodo x = cabeza;
+        for (int l = nivel - 1; l >= 0; l--) {
+            while (x.siguientes[l] != null && cmp.compare(x.siguientes[l].dato, desde) < 0) {
+                x = x.siguientes[l];
+            }
+        }
+        Nodo inicio = x.siguientes[0];
+        return new Iterator<T>() {
+            private Nodo proximo = inicio;
+
+            @Override
+            public boolean hasNext() {
+                return proximo != null && cmp.compare(proximo.dato, hasta) < 0;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                T dato = proximo.dato;
+                proximo = proximo.siguientes[0];
+                return dato;
+            }
+        };
+    }
+
+    /**
+     * La lista ya está ordenada por su comparador. Si {@code cmp} da el mismo orden no hay nada
+     * que hacer (solo se verifica en una pasada); con otro orden lanza
+     * {@link IllegalArgumentException}, igual que {@code set} con un dato fuera de orden.
+     */
+    @Override
+    public void mergeSort(Comparator<? super T> cmp, ConteoOrden c) {
+        for (Nodo n = cabeza.siguientes[0]; n != null && n.siguientes[0] != null; n = n.siguientes[0]) {
+            c.comparaciones++;
+            if (cmp.compare(n.dato, n.siguientes[0].dato) > 0) {
+                throw new IllegalArgumentException("ListaSaltos solo mantiene el orden de su propio comparador");
+            }
+        }
+    }
+
+    @Override
+    public Cursor<T> cursor(int indice) {
+        if (indice < 0 || indice > tama) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice);
+        }
+        return new CursorSaltos(indice);
+    }
+
+    private Nodo nodo(int indice) {
+        if (indice < 0 || indice >= tama) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice);
+        }
+        Nodo x = cabeza;
+        int recorrido = -1; // la cabeza está antes de la posición 0
+        for (int l = nivel - 1; l >= 0; l--) {
+            while (x.siguientes[l] != null && recorrido + x.saltos[l] <= indice) {
+                recorrido += x.saltos[l];
+                x = x.siguientes[l];
+            }
+            if (recorrido == indice) return x;
+        }
+        return x;
+    }
+
+    // Inserta en la posición posiciones[0] con previos[l] como predecesor en cada nivel
+    private Nodo enlazar(T dato) {
+        int nuevoNivel = nivelAleatorio();
+        if (nuevoNivel > nivel) {
+            for (int l = nivel; l < nuevoNivel; l++) {
+                previos[l] = cabeza;
+                posiciones[l] = 0;
+                cabeza.saltos[l] = tama;
+            }
+            nivel = nuevoNivel;
+        }
+        Nodo nuevo = new Nodo(dato, nuevoNivel);
+        int posicion = posiciones[0];
+        for (int l = 0; l < nuevoNivel; l++) {
+            Nodo previo = previos[l];
+            int antes = posicion - posiciones[l];
+            nuevo.siguientes[l] = previo.siguientes[l];
+            nuevo.saltos[l] = previo.saltos[l] - antes;
+            previo.siguientes[l] = nuevo;
+            previo.saltos[l] = antes + 1;
+        }
+        for (int l = nuevoNivel; l < nivel; l++) previos[l].saltos[l]++;
+
+        nuevo.anterior = previos[0] == cabeza ? null : previos[0];
+        if (nuevo.siguientes[0] == null) cola = nuevo; else nuevo.siguientes[0].anterior = nuevo;
+        tama++;
+        return nuevo;
+    }
+
+    private void desenlazar(Nodo borrado) {
+        for (int l = 0; l < nivel; l++) {
+            if (previos[l].siguientes[l] == borrado) {
+                previos[l].saltos[l] += borrado.saltos[l] - 1;
+                previos[l].siguientes[l] = borrado.siguientes[l];
+            } else {
+                previos[l].saltos[l]--;
+            }
+        }
+        if (borrado.siguientes[0] == null) cola = borrado.anterior; else borrado.siguientes[0].anterior = borrado.anterior;
+        while (nivel > 1 && cabeza.siguientes[nivel - 1] == null) nivel--;
+        tama--;
+    }
+
+    // Inserta en una posición dada; quien llama ya comprobó que el orden se mantiene
+    private Nodo insertarEn(int indice, T dato) {
+        Nodo x = cabeza;
+        int recorrido = 0;
+        for (int l = nivel - 1; l >= 0; l--) {
+            while (x.siguientes[l] != null && recorrido + x.saltos[l] <= indice) {
+                recorrido += x.saltos[l];
+                x = x.siguientes[l];
+            }
+            previos[l] = x;
+            posiciones[l] = recorrido;
+        }
+        return enlazar(dato);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Nodo[] nodos(int cantidad) {
+        return (Nodo[]) new ListaSaltos<?>.Nodo[cantidad];
+    }
+
+    // Cada nivel extra con probabilidad 1/4: unos 1.33 enlaces por nodo en promedio
+    private int nivelAleatorio() {
+        int n = 1;
+        while (n < MAX_NIVEL && (random.nextInt() & 3) == 0) n++;
+        return n;
+    }
+
+    private void validarOrden(Nodo anterior, T dato, Nodo siguiente) {
+        if ((anterior != null && cmp.compare(anterior.dato, dato) > 0)
+                || (siguiente != null && cmp.compare(dato, siguiente.dato) > 0)) {
+            throw new IllegalArgumentException("El dato rompe el orden de la lista: " + dato);
+        }
+    }
+
+    private class CursorSaltos implements Cursor<T> {
+        private Nodo proximo; // nodo a la derecha del cursor (null al final)
+        private Nodo ultimo;  // último devuelto por next/prev
+        private boolean adelante;
+        private int indice;
+
+        CursorSaltos(int indice) {
+            this.indice = indice;
+            proximo = indice < tama ? nodo(indice) : null;
+        }
+
+        private Nodo previo() {
+            return proximo == null ? cola : proximo.anterior;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return proximo != null;
+        }
+
+        @Override
+        public T next() {
+            if (proximo == null) throw new NoSuchElementException();
+            ultimo = proximo;
+            proximo = proximo.siguientes[0];
+            adelante = true;
+            indice++;
+            return ultimo.dato;
+        }
+
+        @Override
+        public boolean hasPrev() {
+            return previo() != null;
+        }
+
+        @Override
+        public T prev() {
+            Nodo previo = previo();
+            if (previo == null) throw new NoSuchElementException();
+            ultimo = previo;
+            proximo = previo;
+            adelante = false;
+            indice--;
+            return ultimo.dato;
+        }
+
+        @Override
+        public int nextIndex() {
+            return indice;
+        }
+
+        @Override
+        public void set(T dato) {
+            if (ultimo == null) throw new IllegalStateException();
+            validarOrden(ultimo.anterior, dato, ultimo.siguientes[0]);
+            ultimo.dato = dato;
+        }
+
+        @Override
+        public void insertBefore(T dato) {
+            validarOrden(previo(), dato, proximo);
+            insertarEn(indice, dato);
+            ultimo = null;
+            indice++;
+        }
+
+        @Override
+        public void remove() {
+            if (ultimo == null) throw new IllegalStateException();
+            int posicion = adelante ? indice - 1 : indice;
+            Nodo siguiente = ultimo.siguientes[0];
+            removeAt(posicion);
+            if (adelante) {
+                indice--;
+            } else {
+                proximo = siguiente;
+            }
+            ultimo = null;
+        }
+    }
+}
@@ -1,18 +1,19 @@
 package model.estructuras;
 
+import java.util.Comparator;
+import java.util.NoSuchElementException;
 
 public class ListaSimple<T> implements Lista<T> {
-    private class Nodo {
-        T dato;
-        Nodo siguiente;
-        Nodo(T dato) { this.dato = dato; }
+    private class Nodo extends Eslabon<T, Nodo> {
+        Nodo(T dato) { super(dato); }
     }
 
     private Nodo cabeza;
+    private Nodo cola;
     private int tama;
 
     public ListaSimple() {
-        cabeza = null;
+        cabeza = cola = null;
         tama = 0;
     }
 
@@ -22,15 +23,48 @@ public class ListaSimple<T> implements Lista<T> {
         if (cabeza == null) {
             cabeza = nuevo;
         } else {
-            Nodo temp = cabeza;
-            while (temp.siguiente != null) {
-                temp = temp.siguiente;
-            }
-            temp.siguiente = nuevo;
+            cola.siguiente = nuevo;
         }
+        cola = nuevo;
         tama++;
     }
 
+    @Override
+    public void addAll(Iterable<? extends T> datos) {
+        // Se arma la cadena completa y luego se engancha a la cola de una sola vez
+        Nodo primero = null, ultimo = null;
+        int cuenta = 0;
+        for (T dato : datos) {
+            Nodo nuevo = new Nodo(dato);
+            if (primero == null) primero = nuevo; else ultimo.siguiente = nuevo;
+            ultimo = nuevo;
+            cuenta++;
+        }
+        enlazar(primero, ultimo, cuenta);
+    }
+
+    @Override
+    public void addAll(T[] datos) {
+        Nodo primero = null, ultimo = null;
+        for (T dato : datos) {
+            Nodo nuevo = new Nodo(dato);
+            if (primero == null) primero = nuevo; else ultimo.siguiente = nuevo;
+            ultimo = nuevo;
+        }
+        enlazar(primero, ultimo, datos.length);
+    }
+
+    private void enlazar(Nodo primero, Nodo ultimo, int cuenta) {
+        if (primero == null) return;
+        if (cabeza == null) {
+            cabeza = primero;
+        } else {
+            cola.siguiente = primero;
+        }
+        cola = ultimo;
+        tama += cuenta;
+    }
+
     @Override
     public int size() {
         return tama;
@@ -62,7 +96,127 @@ public class ListaSimple<T> implements Lista<T> {
 
     @Override
     public void clear() {
-        cabeza = null;
+        cabeza = cola = null;
         tama = 0;
     }
+
+    @Override
+    public void mergeSort(Comparator<? super T> cmp, ConteoOrden c) {
+        if (tama < 2) return;
+        cabeza = Eslabon.mergeSort(cabeza, tama, cmp, c);
+        cola = cabeza;
+        while (cola.siguiente != null) cola = cola.siguiente;
+    }
+
+    @Override
+    public Cursor<T> cursor(int indice) {
+        if (indice < 0 || indice > tama) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice);
+        }
+        return new CursorSimple(indice);
+    }
+
+    private class CursorSimple implements Cursor<T> {
+        private Nodo previo;     // nodo a la izquierda del cursor (null al inicio)
+        private Nodo proximo;    // nodo a la derecha del cursor (null al final)
+        private Nodo ultimo;     // último devuelto por next/prev
+        private Nodo predUltimo; // predecesor de ultimo (null si es la cabeza)
+        private boolean adelante;
+        private int indice;
+
+        CursorSimple(int indice) {
+            this.indice = indice;
+            proximo = cabeza;
+            for (int i = 0; i < indice; i++) {
+                previo = proximo;
+                proximo = proximo.siguiente;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return proximo != null;
+        }
+
+        @Override
+        public T next() {
+            if (proximo == null) throw new NoSuchElementException();
+            predUltimo = previo;
+            ultimo = proximo;
+            previo = proximo;
+            proximo = proximo.siguiente;
+            adelante = true;
+            indice++;
+            return ultimo.dato;
+        }
+
+        @Override
+        public boolean hasPrev() {
+            return previo != null;
+        }
+
+        @Override
+        public T prev() {
+            if (previo == null) throw new NoSuchElementException();
+            // Sin enlace hacia atrás: se busca el predecesor desde la cabeza
+            Nodo pred = null;
+            if (previo != cabeza) {
+                pred = cabeza;
+                while (pred.siguiente != previo) pred = pred.siguiente;
+            }
+            ultimo = previo;
+            predUltimo = pred;
+            proximo = previo;
+            previo = pred;
+            adelante = false;
+            indice--;
+            return ultimo.dato;
+        }
+
+        @Override
+        public int nextIndex() {
+            return indice;
+        }
+
+        @Override
+        public void set(T dato) {
+            if (ultimo == null) throw new IllegalStateException();
+            ultimo.dato = dato;
+        }
+
+        @Override
+        public void insertBefore(T dato) {
+            Nodo nuevo = new Nodo(dato);
+            nuevo.siguiente = proximo;
+            if (previo == null) {
+                cabeza = nuevo;
+            } else {
+                previo.siguiente = nuevo;
+            }
+            if (proximo == null) cola = nuevo;
+            previo = nuevo;
+            ultimo = null;
+            indice++;
+            tama++;
+        }
+
+        @Override
+        public void remove() {
+            if (ultimo == null) throw new IllegalStateException();
+            if (predUltimo == null) {
+                cabeza = ultimo.siguiente;
+            } else {
+                predUltimo.siguiente = ultimo.siguiente;
+            }
+            if (ultimo == cola) cola = predUltimo;
+            if (adelante) {
+                previo = predUltimo;
+                indice--;
+            } else {
+                proximo = ultimo.siguiente;
+            }
+            ultimo = null;
+            tama--;
+        }
+    }
 }
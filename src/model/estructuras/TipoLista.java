@@ -0,0 +1,15 @@
+package model.estructuras;
+
+/** Las cuatro implementaciones de {@link Lista} que se comparan. */
+public enum TipoLista {
+    SIMPLE, DOBLE, CIRCULAR_SIMPLE, CIRCULAR_DOBLE;
+
+    public <T> Lista<T> crear() {
+        switch (this) {
+            case SIMPLE: return new ListaSimple<>();
+            case DOBLE: return new ListaDoble<>();
+            case CIRCULAR_SIMPLE: return new ListaCircularSimple<>();
+            default: return new ListaCircularDoble<>();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import model.estructuras.Cursor;
+import model.estructuras.ListaSaltos;
+
+/**
+ * Mezcla al azar {@code add}, {@code removeAt}, {@code remove} y las inserciones y borrados de
+ * los cursores sobre una {@link ListaSaltos}, con un {@link ArrayList} ordenado como referencia.
+ * Cada pocas operaciones compara {@code get(i)}, {@code indiceDe}, {@code rango} y el
+ * recorrido hacia atrás, que dependen de que los saltos y los enlaces {@code anterior} sigan
+ * bien después de enlazar y desenlazar nodos.
+ */
+public class ListaSaltosTest {
+    private static final int OPERACIONES = 20_000;
+    private static final int VALORES = 200;
+
+    // Los pares se ordenan solo por la clave; el número de llegada comprueba que los iguales
+    // conserven el orden en que se insertaron
+    private static final Comparator<int[]> POR_CLAVE = Comparator.comparingInt(p -> p[0]);
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(11);
+        ListaSaltos<int[]> lista = new ListaSaltos<>(POR_CLAVE);
+        List<int[]> esperado = new ArrayList<>();
+        int llegada = 0;
+
+        for (int op = 0; op < OPERACIONES; op++) {
+            int[] dato = {random.nextInt(VALORES), llegada++};
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1: {
+                    lista.add(dato);
+                    esperado.add(despuesDeIguales(esperado, dato[0]), dato);
+                    break;
+                }
+                case 2: {
+                    if (esperado.isEmpty()) break;
+                    int i = random.nextInt(esperado.size());
+                    verificar(lista.removeAt(i) == esperado.remove(i), "removeAt(" + i + ") devolvió otro nodo");
+                    break;
+                }
+                case 3: {
+                    int i = primeroNoMenor(esperado, dato[0]);
+                    boolean habia = i < esperado.size() && esperado.get(i)[0] == dato[0];
+                    verificar(lista.remove(dato) == habia, "remove de la clave " + dato[0]);
+                    if (habia) esperado.remove(i);
+                    break;
+                }
+                case 4: {
+                    // Inserción con cursor entre dos vecinos, después de avanzar o retroceder
+                    int i = random.nextInt(esperado.size() + 1);
+                    int desde = random.nextBoolean() ? i : Math.min(esperado.size(), i + 1);
+                    Cursor<int[]> c = lista.cursor(desde);
+                    if (desde > i) c.prev();
+                    // Una clave entre las de los vecinos, para que el orden se mantenga
+                    int menor = i == 0 ? 0 : esperado.get(i - 1)[0];
+                    int mayor = i == esperado.size() ? VALORES - 1 : esperado.get(i)[0];
+                    int[] nuevo = {menor + random.nextInt(mayor - menor + 1), dato[1]};
+                    c.insertBefore(nuevo);
+                    esperado.add(i, nuevo);
+                    verificar(c.nextIndex() == i + 1, "nextIndex después de insertBefore en " + i);
+                    if (c.hasNext()) verificar(c.next() == esperado.get(i + 1), "next después de insertBefore en " + i);
+                    break;
+                }
+                default: {
+                    // Borrado con cursor, alternando el último devuelto por next y por prev
+                    if (esperado.isEmpty()) break;
+                    int i = random.nextInt(esperado.size());
+                    Cursor<int[]> c;
+                    if (random.nextBoolean()) {
+                        c = lista.cursor(i);
+                        verificar(c.next() == esperado.get(i), "next en " + i);
+                    } else {
+                        c = lista.cursor(i + 1);
+                        verificar(c.prev() == esperado.get(i), "prev en " + i);
+                    }
+                    c.remove();
+                    esperado.remove(i);
+                    verificar(c.nextIndex() == i, "nextIndex después de remove en " + i);
+                    if (i < esperado.size()) verificar(c.next() == esperado.get(i), "next después de remove en " + i);
+                    break;
+                }
+            }
+            if (op % 50 == 0 || esperado.size() < 20) comparar(lista, esperado, random);
+        }
+        comparar(lista, esperado, random);
+
+        lista.clear();
+        verificar(lista.size() == 0 && !lista.cursor().hasNext() && !lista.cursor().hasPrev(), "clear dejó elementos");
+        lista.add(new int[] {1, 0});
+        verificar(lista.get(0)[0] == 1 && lista.indiceDe(new int[] {2, 0}) == 1, "la lista no se reinició bien con clear");
+        System.out.println("ListaSaltosTest OK");
+    }
+
+    private static void comparar(ListaSaltos<int[]> lista, List<int[]> esperado, SplittableRandom random) {
+        int n = esperado.size();
+        verificar(lista.size() == n, "size " + lista.size() + " en vez de " + n);
+        for (int i = 0; i < n; i++) verificar(lista.get(i) == esperado.get(i), "get(" + i + ")");
+
+        List<int[]> haciaAtras = new ArrayList<>();
+        Cursor<int[]> c = lista.cursor(n);
+        while (c.hasPrev()) haciaAtras.add(c.prev());
+        Collections.reverse(haciaAtras);
+        verificar(haciaAtras.size() == n, "hacia atrás se recorrieron " + haciaAtras.size() + " de " + n);
+        for (int i = 0; i < n; i++) verificar(haciaAtras.get(i) == esperado.get(i), "prev en la posición " + i);
+
+        for (int clave = -1; clave <= VALORES; clave += 1 + random.nextInt(20)) {
+            int[] buscado = {clave, 0};
+            int i = primeroNoMenor(esperado, clave);
+            verificar(lista.indiceDe(buscado) == i, "indiceDe(" + clave + ")");
+            verificar(lista.contains(buscado) == (i < n && esperado.get(i)[0] == clave), "contains(" + clave + ")");
+
+            int hasta = clave + random.nextInt(30);
+            Iterator<int[]> rango = lista.rango(buscado, new int[] {hasta, 0});
+            int j = i;
+            while (rango.hasNext()) {
+                verificar(j < n && rango.next() == esperado.get(j), "rango(" + clave + ", " + hasta + ") en " + j);
+                j++;
+            }
+            verificar(j == primeroNoMenor(esperado, hasta), "rango(" + clave + ", " + hasta + ") terminó en " + j);
+        }
+    }
+
+    private static int primeroNoMenor(List<int[]> lista, int clave) {
+        int i = 0;
+        while (i < lista.size() && lista.get(i)[0] < clave) i++;
+        return i;
+    }
+
+    private static int despuesDeIguales(List<int[]> lista, int clave) {
+        int i = primeroNoMenor(lista, clave);
+        while (i < lista.size() && lista.get(i)[0] == clave) i++;
+        return i;
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion) throw new AssertionError(mensaje);
+    }
+}
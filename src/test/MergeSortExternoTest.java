@@ -0,0 +1,120 @@
+package test;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import model.ArchivoPoliticos;
+import model.Distribucion;
+import model.GeneradorDatos;
+import model.MergeSortExterno;
+import model.Politico;
+
+/**
+ * Ida y vuelta del formato de {@link ArchivoPoliticos} y un ordenamiento externo con la memoria
+ * mínima, con datos suficientes para que haga falta más de una pasada de mezcla.
+ */
+public class MergeSortExternoTest {
+    // Con MEMORIA_MIN entran unos 13 mil registros por bloque y se mezclan 13 tramos por pasada
+    private static final int REGISTROS = 250_000;
+    private static final int MONTOS_DISTINTOS = 50;
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Files.createTempDirectory("externo");
+        try {
+            idaYVuelta(dir);
+            ordenarVariasPasadas(dir);
+            mismoArchivo(dir);
+        } finally {
+            try (Stream<Path> archivos = Files.list(dir)) {
+                for (Path p : (Iterable<Path>) archivos::iterator) Files.delete(p);
+            }
+            Files.delete(dir);
+        }
+        System.out.println("MergeSortExternoTest OK");
+    }
+
+    private static void idaYVuelta(Path dir) throws IOException {
+        Politico[] politicos = Distribucion.RANDOM.politicos(1000, 42);
+        Path archivo = dir.resolve("ida.bin");
+        ArchivoPoliticos.guardar(archivo, politicos);
+        ArchivoPoliticos leido = ArchivoPoliticos.cargar(archivo);
+        verificar(leido.size() == politicos.length, "cantidad leída: " + leido.size());
+        for (int i = 0; i < politicos.length; i++) {
+            Politico p = leido.politico(i);
+            verificar(p.getId().equals(politicos[i].getId())
+                    && p.getFechaNacimiento().equals(politicos[i].getFechaNacimiento())
+                    && p.getDineroARobar() == politicos[i].getDineroARobar(),
+                    "registro " + i + " distinto: " + p + " vs " + politicos[i]);
+        }
+
+        Path vacio = dir.resolve("vacio.bin");
+        ArchivoPoliticos.guardar(vacio, new Politico[0]);
+        verificar(ArchivoPoliticos.cargar(vacio).size() == 0, "el archivo vacío tiene registros");
+        Files.delete(archivo);
+        Files.delete(vacio);
+    }
+
+    private static void ordenarVariasPasadas(Path dir) throws IOException {
+        // Montos muy repetidos e ids en orden de llegada para comprobar la estabilidad
+        int[] ids = new int[REGISTROS];
+        int[] dias = new int[REGISTROS];
+        double[] montos = new double[REGISTROS];
+        int[] enteros = new GeneradorDatos(7).enteros(Distribucion.RANDOM, REGISTROS, MONTOS_DISTINTOS);
+        for (int i = 0; i < REGISTROS; i++) {
+            ids[i] = i;
+            dias[i] = i % 20_000;
+            montos[i] = 1000.0 + enteros[i];
+        }
+        Path entrada = dir.resolve("entrada.bin");
+        Path salida = dir.resolve("salida.bin");
+        ArchivoPoliticos.guardar(entrada, ids, dias, montos);
+
+        MergeSortExterno.Metricas m = new MergeSortExterno.Metricas();
+        new MergeSortExterno(MergeSortExterno.MEMORIA_MIN, dir).ordenar(entrada, salida, m);
+        verificar(m.pasadas > 1, "se esperaba más de una pasada de mezcla: " + m.pasadas);
+        verificar(m.tramos > 13, "se esperaban más tramos que el fan-in: " + m.tramos);
+
+        ArchivoPoliticos ordenado = ArchivoPoliticos.cargar(salida);
+        verificar(ordenado.size() == REGISTROS, "cantidad ordenada: " + ordenado.size());
+        IntBuffer idsOrdenados = ordenado.ids();
+        IntBuffer diasOrdenados = ordenado.dias();
+        DoubleBuffer montosOrdenados = ordenado.montos();
+        boolean[] visto = new boolean[REGISTROS];
+        for (int i = 0; i < REGISTROS; i++) {
+            int id = idsOrdenados.get(i);
+            verificar(!visto[id], "id repetido: " + id);
+            visto[id] = true;
+            verificar(diasOrdenados.get(i) == dias[id] && montosOrdenados.get(i) == montos[id],
+                    "registro " + id + " cambió al ordenar");
+            if (i > 0) {
+                double anterior = montosOrdenados.get(i - 1);
+                verificar(anterior < montos[id] || (anterior == montos[id] && idsOrdenados.get(i - 1) < id),
+                        "fuera de orden o inestable en la posición " + i);
+            }
+        }
+
+        try (Stream<Path> archivos = Files.list(dir)) {
+            verificar(archivos.count() == 2, "quedaron tramos temporales en " + dir);
+        }
+    }
+
+    private static void mismoArchivo(Path dir) throws IOException {
+        Path entrada = dir.resolve("entrada.bin");
+        try {
+            new MergeSortExterno(MergeSortExterno.MEMORIA_MIN, dir)
+                    .ordenar(entrada, dir.resolve(".").resolve("entrada.bin"), new MergeSortExterno.Metricas());
+            throw new AssertionError("ordenar sobre el mismo archivo no lanzó IllegalArgumentException");
+        } catch (IllegalArgumentException esperado) {
+            // la entrada no se tocó
+        }
+        verificar(ArchivoPoliticos.cargar(entrada).size() == REGISTROS, "la entrada se truncó");
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion) throw new AssertionError(mensaje);
+    }
+}
@@ -0,0 +1,145 @@
+package test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+
+import model.QuickSort;
+import model.Seleccion;
+
+/**
+ * Compara {@code seleccionar}, {@code seleccionarVarios} y {@code floydRivest} con
+ * {@link Arrays#sort} sobre datos al azar, con muchos repetidos, ya ordenados y contra el
+ * adversario de McIlroy, que decide los valores a medida que se comparan para que cada pivote
+ * sea malo. Contra el adversario además se verifica que las comparaciones sigan siendo lineales.
+ */
+public class SeleccionTest {
+    private static final int PRUEBAS = 2000;
+    private static final int N_ADVERSARIO = 100_000;
+    // Comparaciones por elemento que se aceptan contra el adversario; con el respaldo de mediana
+    // de medianas quedan alrededor de 11, sin él crecen con n
+    private static final double MAX_POR_ELEMENTO = 30;
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(23);
+        for (int prueba = 0; prueba < PRUEBAS; prueba++) {
+            int n = 1 + random.nextInt(3000);
+            // Límites chicos dan muchos repetidos; los grandes, casi todos distintos
+            int limite = prueba % 2 == 0 ? 1 + random.nextInt(8) : 1 + random.nextInt(2 * n);
+            int[] datos = new int[n];
+            for (int i = 0; i < n; i++) datos[i] = random.nextInt(limite);
+            if (prueba % 5 == 1) Arrays.sort(datos);
+            if (prueba % 5 == 2) invertir(datos);
+            comparar(datos, random);
+        }
+
+        for (boolean floyd : new boolean[] {false, true}) {
+            int k = N_ADVERSARIO / 2;
+            int[] datos = adversario(N_ADVERSARIO, k, floyd);
+            comparar(datos, random);
+            Integer[] a = objetos(datos);
+            QuickSort.Metricas m = new QuickSort.Metricas();
+            if (floyd) {
+                Seleccion.floydRivest(a, k, Comparator.naturalOrder(), m);
+            } else {
+                Seleccion.seleccionar(a, k, Comparator.naturalOrder(), m);
+            }
+            double porElemento = m.comparaciones / (double) N_ADVERSARIO;
+            verificar(porElemento <= MAX_POR_ELEMENTO, (floyd ? "floydRivest" : "seleccionar")
+                    + " hizo " + porElemento + " comparaciones por elemento contra el adversario");
+        }
+        System.out.println("SeleccionTest OK");
+    }
+
+    // Selecciona un k al azar y unos rangos con las tres variantes y los tres tipos de arreglo
+    private static void comparar(int[] datos, SplittableRandom random) {
+        int n = datos.length;
+        int[] ordenado = datos.clone();
+        Arrays.sort(ordenado);
+        double[] montos = new double[n];
+        for (int i = 0; i < n; i++) montos[i] = datos[i] * 0.5;
+        int k = random.nextInt(n);
+        QuickSort.Metricas m = new QuickSort.Metricas();
+
+        int[] a = datos.clone();
+        verificar(Seleccion.seleccionar(a, k, m) == ordenado[k], "seleccionar(int[]) con k = " + k);
+        verificarParticion(a, k);
+        a = datos.clone();
+        verificar(Seleccion.floydRivest(a, k, m) == ordenado[k], "floydRivest(int[]) con k = " + k);
+        verificarParticion(a, k);
+
+        double[] d = montos.clone();
+        verificar(Seleccion.seleccionar(d, k, m) == ordenado[k] * 0.5, "seleccionar(double[]) con k = " + k);
+        d = montos.clone();
+        verificar(Seleccion.floydRivest(d, k, m) == ordenado[k] * 0.5, "floydRivest(double[]) con k = " + k);
+
+        Integer[] o = objetos(datos);
+        verificar(Seleccion.seleccionar(o, k, Comparator.naturalOrder(), m) == ordenado[k], "seleccionar(T[]) con k = " + k);
+        o = objetos(datos);
+        verificar(Seleccion.floydRivest(o, k, Comparator.naturalOrder(), m) == ordenado[k], "floydRivest(T[]) con k = " + k);
+
+        int[] rangos = new int[1 + random.nextInt(6)];
+        for (int i = 0; i < rangos.length; i++) rangos[i] = random.nextInt(n);
+        a = datos.clone();
+        Seleccion.seleccionarVarios(a, rangos, m);
+        d = montos.clone();
+        Seleccion.seleccionarVarios(d, rangos, m);
+        o = objetos(datos);
+        Seleccion.seleccionarVarios(o, rangos, Comparator.naturalOrder(), m);
+        for (int r : rangos) {
+            verificar(a[r] == ordenado[r] && d[r] == ordenado[r] * 0.5 && o[r] == ordenado[r],
+                    "seleccionarVarios en el rango " + r);
+        }
+    }
+
+    private static void verificarParticion(int[] a, int k) {
+        for (int i = 0; i < k; i++) verificar(a[i] <= a[k], "mayor que a[k] a la izquierda de " + k);
+        for (int i = k + 1; i < a.length; i++) verificar(a[i] >= a[k], "menor que a[k] a la derecha de " + k);
+    }
+
+    /**
+     * Adversario de McIlroy ("A Killer Adversary for Quicksort"): todos los valores empiezan
+     * "gaseosos" y se van fijando, en orden creciente, solo cuando una comparación lo exige,
+     * siempre el del que no parece ser el pivote. Lo que queda sin fijar va al final.
+     */
+    private static int[] adversario(int n, int k, boolean floyd) {
+        int gas = n;
+        int[] valores = new int[n];
+        Arrays.fill(valores, gas);
+        int[] estado = new int[2]; // fijados y candidato a pivote
+        Integer[] indices = new Integer[n];
+        for (int i = 0; i < n; i++) indices[i] = i;
+        Comparator<Integer> cmp = (x, y) -> {
+            if (valores[x] == gas && valores[y] == gas) {
+                if (x == estado[1]) valores[x] = estado[0]++; else valores[y] = estado[0]++;
+            }
+            if (valores[x] == gas) estado[1] = x; else if (valores[y] == gas) estado[1] = y;
+            return Integer.compare(valores[x], valores[y]);
+        };
+        if (floyd) {
+            Seleccion.floydRivest(indices, k, cmp, new QuickSort.Metricas());
+        } else {
+            Seleccion.seleccionar(indices, k, cmp, new QuickSort.Metricas());
+        }
+        for (int i = 0; i < n; i++) if (valores[i] == gas) valores[i] = estado[0]++;
+        return valores;
+    }
+
+    private static Integer[] objetos(int[] datos) {
+        Integer[] o = new Integer[datos.length];
+        for (int i = 0; i < datos.length; i++) o[i] = datos[i];
+        return o;
+    }
+
+    private static void invertir(int[] a) {
+        for (int i = 0, j = a.length - 1; i < j; i++, j--) {
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+
+    private static void verificar(boolean condicion, String mensaje) {
+        if (!condicion) throw new AssertionError(mensaje);
+    }
+}
@@ -2,23 +2,25 @@ package view;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.*;
 import java.awt.event.ActionListener;
 
-public class InsertionDoubleCircularView extends JFrame {
+public class InsertionDoubleCircularView extends JFrame implements SortingView {
 
     private final JButton btnGenerate;
     private final JButton btnSort;
+    private final JButton btnPause;
+    private final JButton btnCancel;
     private final JButton btnBack;
     private final JTable dataTable;
-    private final DefaultTableModel tableModel;
+    private final PoliticianTableModel tableModel;
     private final JTextField txtNumElements;
     private final JLabel lblResult;
     private final JLabel lblIterations;
-    private final JTextArea txtSteps;
+    private final StepLog txtSteps;
     private final JProgressBar progressBar;
+    private final JSlider speedSlider;
     private final JLabel lblStructureInfo;
 
     public InsertionDoubleCircularView() {
@@ -72,12 +74,12 @@ public class InsertionDoubleCircularView extends JFrame {
         tablePanel.setBackground(new Color(240, 248, 255));
 
         // Create table model with columns for the politicians
-        tableModel = new DefaultTableModel(new Object[]{"ID", "Anterior", "Nombre", "Dinero a Robar ($)", "Siguiente"}, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false; // Make table non-editable
-            }
-        };
+        tableModel = new PoliticianTableModel(new String[]{"ID", "Anterior", "Nombre", "Dinero a Robar ($)", "Siguiente"}, 2, 3, (row, column, rowCount) -> {
+            if (column == 0) return row + 1; // ID
+            // El primero apunta al último y el último al primero
+            if (column == 1) return row == 0 ? "← " + rowCount : "← " + row;
+            return row == rowCount - 1 ? "1 →" : (row + 2) + " →";
+        });
 
         dataTable = new JTable(tableModel);
         dataTable.setFont(new Font("Segoe UI", Font.PLAIN, 14));
@@ -153,6 +155,18 @@ public class InsertionDoubleCircularView extends JFrame {
         progressBar.setPreferredSize(new Dimension(400, 25));
 
         progressPanel.add(progressBar);
+
+        // Velocidad de la reproducción, en pasos por segundo
+        JLabel lblSpeed = new JLabel("Pasos/s:");
+        lblSpeed.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        speedSlider = new JSlider(1, 200, 5);
+        speedSlider.setBackground(new Color(240, 248, 255));
+        speedSlider.setPreferredSize(new Dimension(150, 25));
+        speedSlider.setToolTipText("Pasos de la traza que se reproducen por segundo");
+
+        progressPanel.add(Box.createHorizontalStrut(10));
+        progressPanel.add(lblSpeed);
+        progressPanel.add(speedSlider);
         verticalControlPanel.add(progressPanel);
         verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
 
@@ -163,6 +177,17 @@ public class InsertionDoubleCircularView extends JFrame {
 
         sortPanel.add(btnSort);
 
+        // Pausar y cancelar solo se habilitan mientras se ordena
+        btnPause = createStyledButton("Pausar", new Color(243, 156, 18));
+        btnPause.setPreferredSize(new Dimension(120, 35));
+        btnPause.setEnabled(false);
+        btnCancel = createStyledButton("Cancelar", new Color(149, 165, 166));
+        btnCancel.setPreferredSize(new Dimension(120, 35));
+        btnCancel.setEnabled(false);
+
+        sortPanel.add(btnPause);
+        sortPanel.add(btnCancel);
+
         verticalControlPanel.add(sortPanel);
         verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
 
@@ -190,9 +215,8 @@ public class InsertionDoubleCircularView extends JFrame {
         JLabel lblSteps = new JLabel("Pasos del algoritmo:");
         lblSteps.setFont(new Font("Segoe UI", Font.BOLD, 14));
 
-        txtSteps = new JTextArea(5, 0);
+        txtSteps = new StepLog(StepLog.DEFAULT_CAPACITY);
         txtSteps.setFont(new Font("Consolas", Font.PLAIN, 12));
-        txtSteps.setEditable(false);
         txtSteps.setBackground(Color.WHITE);
         txtSteps.setBorder(BorderFactory.createLineBorder(new Color(41, 128, 185), 1));
 
@@ -265,6 +289,14 @@ public class InsertionDoubleCircularView extends JFrame {
         btnBack.addActionListener(listener);
     }
 
+    public void addPauseListener(ActionListener listener) {
+        btnPause.addActionListener(listener);
+    }
+
+    public void addCancelListener(ActionListener listener) {
+        btnCancel.addActionListener(listener);
+    }
+
     // Method to get number of elements
     public String getNumElements() {
         return txtNumElements.getText().trim();
@@ -275,6 +307,25 @@ public class InsertionDoubleCircularView extends JFrame {
         btnSort.setEnabled(enabled);
     }
 
+    // Method to enable/disable generate button
+    public void setGenerateButtonEnabled(boolean enabled) {
+        btnGenerate.setEnabled(enabled);
+    }
+
+    // Method to enable pause/cancel buttons while sorting
+    public void setSortRunning(boolean running) {
+        btnPause.setEnabled(running);
+        btnCancel.setEnabled(running);
+        if (!running) {
+            btnPause.setText("Pausar");
+        }
+    }
+
+    // Method to switch the pause button between pause and resume
+    public void setPaused(boolean paused) {
+        btnPause.setText(paused ? "Reanudar" : "Pausar");
+    }
+
     // Method to display result message
     public void setResultMessage(String message, boolean isSuccess) {
         lblResult.setText(message);
@@ -287,22 +338,24 @@ public class InsertionDoubleCircularView extends JFrame {
         lblIterations.setForeground(new Color(41, 128, 185));
     }
 
-    // Method to populate the table with values
-    public void setTableData(Object[][] data) {
-        tableModel.setRowCount(0);
-        for (Object[] row : data) {
-            tableModel.addRow(row);
-        }
+    // Table model bound to the rows shown; the controller and the replay update it in place
+    public PoliticianTableModel getTableModel() {
+        return tableModel;
     }
 
     // Method to add step to the steps area
     public void addStep(String step) {
-        txtSteps.append(step + "\n");
+        txtSteps.append(step);
+    }
+
+    // Structured step, turned into text only when it is scrolled into view
+    public void addStepEntry(Object entry) {
+        txtSteps.appendEntry(entry);
     }
 
     // Method to clear steps
     public void clearSteps() {
-        txtSteps.setText("");
+        txtSteps.clear();
     }
 
     // Method to highlight a specific row in the table
@@ -320,6 +373,11 @@ public class InsertionDoubleCircularView extends JFrame {
         progressBar.setString("Progreso: " + percentage + "%");
     }
 
+    // Method to get the replay speed in steps per second
+    public int getReplaySpeed() {
+        return speedSlider.getValue();
+    }
+
     // Method to reset progress bar
     public void resetProgress() {
         progressBar.setValue(0);
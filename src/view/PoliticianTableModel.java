@@ -0,0 +1,136 @@
+package view;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Modelo de tabla para las vistas de listas. Guarda solo nombre y dinero de cada fila en
+ * arreglos; las demás columnas (ID, anterior, siguiente) dependen únicamente de la posición
+ * y se calculan al pintar la celda. Cada actualización compara contra lo que ya se muestra
+ * y avisa a la tabla solo de los tramos de filas que cambiaron.
+ */
+public class PoliticianTableModel extends AbstractTableModel {
+
+    /** Valor de una columna que depende solo de la posición de la fila. */
+    @FunctionalInterface
+    public interface PositionCell {
+        Object valueAt(int row, int column, int rowCount);
+    }
+
+    private final String[] columnNames;
+    private final int nameColumn;
+    private final int moneyColumn;
+    private final PositionCell positionCell;
+
+    private String[] names = new String[0];
+    private int[] money = new int[0];
+    private int rowCount = 0;
+
+    public PoliticianTableModel(String[] columnNames, int nameColumn, int moneyColumn, PositionCell positionCell) {
+        this.columnNames = columnNames.clone();
+        this.nameColumn = nameColumn;
+        this.moneyColumn = moneyColumn;
+        this.positionCell = positionCell;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        if (column == nameColumn) return names[row];
+        if (column == moneyColumn) return "$" + money[row];
+        return positionCell.valueAt(row, column, rowCount);
+    }
+
+    public String getName(int row) {
+        return names[row];
+    }
+
+    public int getMoney(int row) {
+        return money[row];
+    }
+
+    /**
+     * Sincroniza la tabla con n filas leídas por posición. Si cambia la cantidad se avisa
+     * que cambió todo (las columnas de posición dependen de n); si no, solo los tramos
+     * contiguos de filas distintas.
+     */
+    public void update(int n, IntFunction<String> name, IntUnaryOperator moneyToSteal) {
+        if (n != rowCount) {
+            if (n > names.length) {
+                names = Arrays.copyOf(names, n);
+                money = Arrays.copyOf(money, n);
+            }
+            for (int i = 0; i < n; i++) {
+                names[i] = name.apply(i);
+                money[i] = moneyToSteal.applyAsInt(i);
+            }
+            Arrays.fill(names, n, names.length, null);
+            rowCount = n;
+            fireTableDataChanged();
+            return;
+        }
+
+        int desde = -1;
+        for (int i = 0; i < n; i++) {
+            String nuevoNombre = name.apply(i);
+            int nuevoDinero = moneyToSteal.applyAsInt(i);
+            boolean cambio = nuevoDinero != money[i] || !nuevoNombre.equals(names[i]);
+            if (cambio) {
+                names[i] = nuevoNombre;
+                money[i] = nuevoDinero;
+                if (desde < 0) desde = i;
+            } else if (desde >= 0) {
+                fireTableRowsUpdated(desde, i - 1);
+                desde = -1;
+            }
+        }
+        if (desde >= 0) {
+            fireTableRowsUpdated(desde, n - 1);
+        }
+    }
+
+    public void swapRows(int a, int b) {
+        if (a == b) return;
+        String nombre = names[a];
+        names[a] = names[b];
+        names[b] = nombre;
+        int dinero = money[a];
+        money[a] = money[b];
+        money[b] = dinero;
+        fireTableRowsUpdated(a, a);
+        fireTableRowsUpdated(b, b);
+    }
+
+    // Lleva la fila from a la posición to, corriendo un lugar las de en medio
+    public void moveRow(int from, int to) {
+        if (from == to) return;
+        String nombre = names[from];
+        int dinero = money[from];
+        if (from > to) {
+            System.arraycopy(names, to, names, to + 1, from - to);
+            System.arraycopy(money, to, money, to + 1, from - to);
+        } else {
+            System.arraycopy(names, from + 1, names, from, to - from);
+            System.arraycopy(money, from + 1, money, from, to - from);
+        }
+        names[to] = nombre;
+        money[to] = dinero;
+        fireTableRowsUpdated(Math.min(from, to), Math.max(from, to));
+    }
+}
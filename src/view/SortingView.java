@@ -0,0 +1,52 @@
+package view;
+
+import java.awt.event.ActionListener;
+
+/**
+ * Operaciones que comparten las vistas Insertion* y Selection* y que usan los
+ * controladores para reproducir un ordenamiento ya grabado.
+ */
+public interface SortingView {
+    void addStep(String step);
+
+    // Paso estructurado; el registro lo convierte a texto solo cuando se muestra
+    void addStepEntry(Object entry);
+
+    void clearSteps();
+
+    // Filas que muestra la tabla; se actualizan en sitio y solo avisan lo que cambió
+    PoliticianTableModel getTableModel();
+
+    void highlightRow(int rowIndex);
+
+    // Las vistas que no resaltan pares de filas marcan solo la primera
+    default void highlightRows(int row1, int row2) {
+        highlightRow(row1);
+    }
+
+    void updateProgress(int current, int total);
+
+    void resetProgress();
+
+    void setProgressComplete();
+
+    void setResultMessage(String message, boolean isSuccess);
+
+    void setIterationsMessage(String iterations);
+
+    void setSortButtonEnabled(boolean enabled);
+
+    void setGenerateButtonEnabled(boolean enabled);
+
+    // Habilita pausar/cancelar solo mientras hay un ordenamiento en curso
+    void setSortRunning(boolean running);
+
+    void setPaused(boolean paused);
+
+    // Pasos de la traza por segundo al reproducir el ordenamiento
+    int getReplaySpeed();
+
+    void addPauseListener(ActionListener listener);
+
+    void addCancelListener(ActionListener listener);
+}
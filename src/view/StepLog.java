@@ -0,0 +1,176 @@
+package view;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Registro de pasos acotado para las vistas de ordenamiento. Guarda las líneas en un anillo
+ * de capacidad fija (las más viejas se descartan) y junta todo lo que llega durante un cuadro
+ * para pasarlo a la lista de una sola vez, con un único aviso de filas quitadas y agregadas.
+ * Lo pendiente también se recorta a la capacidad al agregar, así que la memoria queda acotada
+ * aunque un solo evento agregue muchas líneas.
+ * <p>
+ * Además de texto acepta entradas estructuradas: cualquier objeto cuyo {@code toString()}
+ * arma la línea. Como las celdas tienen alto y ancho fijos, la lista solo pinta las filas
+ * visibles y esas entradas se convierten a texto únicamente al quedar a la vista.
+ */
+public class StepLog extends JList<Object> {
+
+    public static final int DEFAULT_CAPACITY = 5000;
+
+    private static final int FRAME_MS = 1000 / 60;
+
+    private final Ring ring;
+    private final ArrayDeque<Object> pending = new ArrayDeque<>();
+    private final Timer flushTimer;
+    private int widestLine = 0;
+
+    public StepLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public StepLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser mayor que 0");
+        }
+        ring = new Ring(capacity);
+        setModel(ring);
+        setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        flushTimer = new Timer(FRAME_MS, e -> flush());
+        flushTimer.setRepeats(false);
+    }
+
+    // El alto fijo evita que la lista mida todas las filas para acomodarse
+    @Override
+    public void setFont(Font font) {
+        super.setFont(font);
+        if (font != null) {
+            setFixedCellHeight(getFontMetrics(font).getHeight());
+        }
+    }
+
+    /** Agrega texto; cada salto de línea abre una línea nueva, como JTextArea.append. */
+    public void append(String text) {
+        int start = 0;
+        for (int i = text.indexOf('\n'); i >= 0; i = text.indexOf('\n', start)) {
+            enqueue(text.substring(start, i));
+            start = i + 1;
+        }
+        enqueue(text.substring(start));
+        scheduleFlush();
+    }
+
+    /** Agrega una entrada que se convierte a texto solo cuando se pinta. */
+    public void appendEntry(Object entry) {
+        // ArrayDeque no admite null; se muestra igual que lo haría JTextArea.append
+        enqueue(entry != null ? entry : "null");
+        scheduleFlush();
+    }
+
+    public void clear() {
+        pending.clear();
+        flushTimer.stop();
+        widestLine = 0;
+        setFixedCellWidth(-1);
+        ring.clear();
+    }
+
+    public int getCapacity() {
+        return ring.capacity();
+    }
+
+    // Lo que pase de una capacidad se descartaría en el próximo cuadro: se descarta ya
+    private void enqueue(Object entry) {
+        if (pending.size() == ring.capacity()) {
+            pending.removeFirst();
+        }
+        pending.addLast(entry);
+    }
+
+    private void scheduleFlush() {
+        if (!flushTimer.isRunning()) {
+            flushTimer.start();
+        }
+    }
+
+    // Pasa lo pendiente al anillo; corre a lo sumo una vez por cuadro
+    private void flush() {
+        if (pending.isEmpty()) return;
+
+        FontMetrics metrics = getFont() != null ? getFontMetrics(getFont()) : null;
+        int widest = widestLine;
+        if (metrics != null) {
+            for (Object entry : pending) {
+                if (entry instanceof String) {
+                    widest = Math.max(widest, metrics.stringWidth((String) entry));
+                }
+            }
+        }
+        ring.addAll(pending);
+        pending.clear();
+
+        if (widest != widestLine) {
+            widestLine = widest;
+            // Margen para el borde del renderizador
+            setFixedCellWidth(widest + 8);
+        }
+        ensureIndexIsVisible(ring.getSize() - 1);
+    }
+
+    /** Anillo de entradas expuesto como modelo de la lista. */
+    private static final class Ring extends AbstractListModel<Object> {
+        private final Object[] entries;
+        private int head = 0;
+        private int size = 0;
+
+        Ring(int capacity) {
+            entries = new Object[capacity];
+        }
+
+        int capacity() {
+            return entries.length;
+        }
+
+        @Override
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public Object getElementAt(int index) {
+            return entries[(head + index) % entries.length];
+        }
+
+        // Agrega source, que trae como mucho una capacidad, así que solo se descartan entradas viejas
+        void addAll(Collection<Object> source) {
+            int count = source.size();
+            if (count == 0) return;
+
+            int evicted = Math.max(0, size + count - entries.length);
+            for (Object entry : source) {
+                entries[(head + size) % entries.length] = entry;
+                if (size < entries.length) {
+                    size++;
+                } else {
+                    head = (head + 1) % entries.length;
+                }
+            }
+            if (evicted > 0) {
+                fireIntervalRemoved(this, 0, evicted - 1);
+            }
+            fireIntervalAdded(this, size - count, size - 1);
+        }
+
+        void clear() {
+            if (size == 0) return;
+            int old = size;
+            Arrays.fill(entries, null);
+            head = 0;
+            size = 0;
+            fireIntervalRemoved(this, 0, old - 1);
+        }
+    }
+}